@@ -0,0 +1,248 @@
+package com.backend.sesim.domain.deployment.service;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+import com.backend.sesim.domain.deployment.config.ApiUsageIngestProperties;
+import com.backend.sesim.domain.deployment.config.ApiUsageNotificationProperties;
+import com.backend.sesim.domain.deployment.config.ProjectModelInfoCacheProperties;
+import com.backend.sesim.domain.deployment.dto.internal.PendingApiUsage;
+import com.backend.sesim.domain.deployment.dto.internal.UsageSum;
+import com.backend.sesim.domain.deployment.dto.internal.UsageTotal;
+import com.backend.sesim.domain.deployment.entity.ApiUsageDailyRollup;
+import com.backend.sesim.domain.deployment.entity.Project;
+import com.backend.sesim.domain.deployment.entity.ProjectModelInformation;
+import com.backend.sesim.domain.deployment.repository.ApiUsageDailyRollupRepository;
+import com.backend.sesim.domain.deployment.repository.ApiUsageMonthlyRollupRepository;
+import com.backend.sesim.domain.deployment.repository.ProjectModelInfoRepository;
+import com.backend.sesim.domain.deployment.repository.ProjectRepository;
+import com.backend.sesim.domain.iam.entity.RoleArn;
+import com.backend.sesim.domain.iam.repository.RoleArnRepository;
+import com.backend.sesim.domain.resourcemanagement.entity.InfrastructureSpec;
+import com.backend.sesim.domain.resourcemanagement.entity.Model;
+import com.backend.sesim.domain.user.entity.User;
+import com.backend.sesim.domain.user.repository.UserRepository;
+import com.backend.sesim.global.entity.TimeStampEntity;
+import com.backend.sesim.global.util.SecurityUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 벤치마크용 합성 데이터와 스텁 저장소 (DB 없이 메모리에서만 동작)
+ * 저장소 인터페이스는 동적 프록시로, 호출되는 메서드만 응답하고 나머지는 UnsupportedOperationException
+ */
+final class ApiUsageBenchmarkFixture {
+
+	static final LocalDate END_DATE = LocalDate.of(2025, 6, 30);
+	static final Long USER_ID = 1L;
+
+	// 행 수와 무관하게 기간은 최대 2년, 나머지는 그룹(모델/프로젝트/모델 정보) 수로 늘림
+	private static final int MAX_DAYS = 730;
+	private static final int MODELS_PER_PROJECT = 10;
+
+	private static final ApiUsageStoreService STORE_STUB = new ApiUsageStoreService(null, null, null) {
+		@Override
+		public List<PendingApiUsage> saveAll(List<PendingApiUsage> usages) {
+			return List.of();
+		}
+	};
+
+	// 변경 없음으로 응답하므로 알림은 예약되지 않음
+	private static final ApiUsageUpdateNotifier NOTIFIER_STUB =
+		new ApiUsageUpdateNotifier(new ApiUsageNotificationProperties(), null, null);
+
+	final int days;
+	final int groups;
+	final LocalDate startDate;
+
+	private ApiUsageBenchmarkFixture(int rows) {
+		this.days = Math.min(rows, MAX_DAYS);
+		this.groups = Math.max(1, rows / days);
+		this.startDate = END_DATE.minusDays(days - 1);
+	}
+
+	static ApiUsageBenchmarkFixture ofRows(int rows) {
+		return new ApiUsageBenchmarkFixture(rows);
+	}
+
+	/**
+	 * (날짜, 그룹)마다 한 행 - 그룹 ID는 1부터
+	 */
+	List<UsageSum> usageSums() {
+		SplittableRandom random = new SplittableRandom(42);
+		Long[] groupIds = boxedIds(groups);
+		List<UsageSum> sums = new ArrayList<>(days * groups);
+		for (int day = 0; day < days; day++) {
+			LocalDate date = END_DATE.minusDays(day);
+			for (int group = 0; group < groups; group++) {
+				long seconds = random.nextInt(1, 3_600);
+				sums.add(new UsageSum(date, groupIds[group], (long)random.nextInt(1, 1_000), seconds,
+					seconds / 3600.0 * 1.5));
+			}
+		}
+		return sums;
+	}
+
+	/**
+	 * 그룹 수만큼의 모델 정보를 프로젝트당 MODELS_PER_PROJECT개씩 묶은 프로젝트 목록
+	 */
+	List<Project> projects(RoleArn roleArn) {
+		InfrastructureSpec spec = InfrastructureSpec.builder().id(1L).ec2Spec("t3.medium").ec2Info("2 vCPU")
+			.specPricePerHour(0.05).build();
+		int projectCount = (groups + MODELS_PER_PROJECT - 1) / MODELS_PER_PROJECT;
+
+		List<Project> projects = new ArrayList<>(projectCount);
+		long informationId = 1;
+		for (int p = 0; p < projectCount; p++) {
+			List<ProjectModelInformation> infos = new ArrayList<>();
+			Project project = Project.builder()
+				.id((long)p + 1)
+				.roleArn(roleArn)
+				.name("project-" + p)
+				.modelInformations(infos)
+				.build();
+			for (int m = 0; m < MODELS_PER_PROJECT && informationId <= groups; m++, informationId++) {
+				Model model = Model.builder().id(informationId).name("model-" + informationId)
+					.modelPricePerHour(1.0 + m).build();
+				infos.add(ProjectModelInformation.builder()
+					.id(informationId)
+					.project(project)
+					.model(model)
+					.spec(spec)
+					.build());
+			}
+			projects.add(project);
+		}
+		return projects;
+	}
+
+	/**
+	 * 모델 정보 x 날짜마다 한 행의 일별 집계
+	 */
+	List<ApiUsageDailyRollup> dailyRollups(List<Project> projects) {
+		SplittableRandom random = new SplittableRandom(42);
+		List<ApiUsageDailyRollup> rollups = new ArrayList<>(days * groups);
+		for (Project project : projects) {
+			for (ProjectModelInformation info : project.getModelInformations()) {
+				for (int day = 0; day < days; day++) {
+					int seconds = random.nextInt(1, 3_600);
+					rollups.add(ApiUsageDailyRollup.builder()
+						.informationId(info.getId())
+						.projectId(project.getId())
+						.modelId(info.getModel().getId())
+						.usageDate(END_DATE.minusDays(day))
+						.totalRequestCount(random.nextInt(1, 1_000))
+						.totalSeconds(seconds)
+						.totalCost(seconds / 3600.0 * 1.5)
+						.build());
+				}
+			}
+		}
+		return rollups;
+	}
+
+	/**
+	 * 스텁 저장소로 조립한 ApiUsageService
+	 *
+	 * @param projects     사용자 프로젝트 (findAllByRoleArnIn 계열 응답)
+	 * @param modelSums    sumByProjectGroupByDateAndModel 응답
+	 * @param projectSums  sumByProjectsGroupByDateAndProject 응답
+	 * @param dailyRollups findByProjectIdInAndUsageDateBetween 응답
+	 */
+	static ApiUsageService service(User user, RoleArn roleArn, List<Project> projects, List<UsageSum> modelSums,
+		List<UsageSum> projectSums, List<ApiUsageDailyRollup> dailyRollups, ApiUsageIngestBuffer buffer) {
+		UsageTotal lastTotal = new UsageTotal(1_000L, 36_000L, 15.0);
+
+		ApiUsageDailyRollupRepository dailyRepository = stub(ApiUsageDailyRollupRepository.class, Map.of(
+			"sumByProjectGroupByDateAndModel", args -> modelSums,
+			"sumByProjectsGroupByDateAndProject", args -> projectSums,
+			"sumTotalByProject", args -> lastTotal,
+			"sumTotalByProjects", args -> lastTotal,
+			"findByProjectIdInAndUsageDateBetween", args -> dailyRollups));
+
+		Map<Long, List<ProjectModelInformation>> infosByProject = new HashMap<>();
+		projects.forEach(project -> infosByProject.put(project.getId(), project.getModelInformations()));
+		ProjectModelInfoRepository projectModelInfoRepository = stub(ProjectModelInfoRepository.class, Map.of(
+			"findAllWithModelAndSpecByProjectId", args -> infosByProject.getOrDefault((Long)args[0], List.of())));
+
+		return new ApiUsageService(
+			dailyRepository,
+			stub(ApiUsageMonthlyRollupRepository.class, Map.of()),
+			buffer,
+			new ProjectModelInfoCache(projectModelInfoRepository, new SimpleMeterRegistry(), cacheProperties()),
+			new SecurityUtils(null) {
+				@Override
+				public Long getCurrentUsersId() {
+					return USER_ID;
+				}
+			},
+			stub(RoleArnRepository.class, Map.of("findAllByUser", args -> List.of(roleArn))),
+			stub(UserRepository.class, Map.of("findById", args -> Optional.of(user))),
+			stub(ProjectRepository.class, Map.of(
+				"findAllByRoleArnIn", args -> projects,
+				"findAllWithModelInformationsByRoleArnIn", args -> projects)));
+	}
+
+	private static ProjectModelInfoCacheProperties cacheProperties() {
+		ProjectModelInfoCacheProperties properties = new ProjectModelInfoCacheProperties();
+		properties.setMaxSize(100_000);
+		return properties;
+	}
+
+	/**
+	 * 스텁 저장소로 flush 하는 버퍼 (SSE 알림 대상이 없도록 변경 없음으로 응답)
+	 */
+	static ApiUsageIngestBuffer buffer(ApiUsageIngestProperties properties) {
+		return new ApiUsageIngestBuffer(properties, STORE_STUB, NOTIFIER_STUB, new SimpleMeterRegistry());
+	}
+
+	static User user() {
+		User user = User.builder().id(USER_ID).email("bench@sesim.com").nickname("bench").password("-").build();
+		try {
+			Field createdAt = TimeStampEntity.class.getDeclaredField("createdAt");
+			createdAt.setAccessible(true);
+			createdAt.set(user, LocalDateTime.of(2023, 1, 1, 0, 0));
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+		return user;
+	}
+
+	static RoleArn roleArn(User user) {
+		return RoleArn.builder().id(1L).user(user).roleArn("arn:aws:iam::123456789012:role/bench").build();
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+		return (T)Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+			Function<Object[], Object> answer = answers.get(method.getName());
+			if (answer != null) {
+				return answer.apply(args);
+			}
+			return switch (method.getName()) {
+				case "toString" -> type.getSimpleName() + "Stub";
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+			};
+		});
+	}
+
+	// 같은 그룹 ID는 같은 Long 인스턴스를 공유 (합성 데이터 자체의 할당을 줄임)
+	private static Long[] boxedIds(int count) {
+		Long[] ids = new Long[count];
+		for (int i = 0; i < count; i++) {
+			ids[i] = (long)i + 1;
+		}
+		return ids;
+	}
+}
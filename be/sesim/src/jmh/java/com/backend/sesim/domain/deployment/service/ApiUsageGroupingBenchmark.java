@@ -0,0 +1,70 @@
+package com.backend.sesim.domain.deployment.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.backend.sesim.domain.deployment.dto.internal.UsageSum;
+import com.backend.sesim.domain.deployment.util.UsageAccumulator;
+
+/**
+ * ApiUsageService 그룹핑 단계 (누적 / groupByDay / groupByMonth / groupProjectByDay)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ApiUsageGroupingBenchmark {
+
+	@Param({"10000", "1000000", "10000000"})
+	private int rows;
+
+	private ApiUsageBenchmarkFixture fixture;
+	private List<UsageSum> sums;
+	private UsageAccumulator accumulator;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		fixture = ApiUsageBenchmarkFixture.ofRows(rows);
+		sums = fixture.usageSums();
+		accumulator = UsageAccumulator.of(fixture.startDate, ApiUsageBenchmarkFixture.END_DATE, sums);
+	}
+
+	@Benchmark
+	public UsageAccumulator accumulate() {
+		return UsageAccumulator.of(fixture.startDate, ApiUsageBenchmarkFixture.END_DATE, sums);
+	}
+
+	@Benchmark
+	public void groupByDay(Blackhole blackhole) {
+		for (int group = 0; group < accumulator.groupCount(); group++) {
+			blackhole.consume(ApiUsageService.groupByDay(accumulator, group));
+		}
+	}
+
+	@Benchmark
+	public void groupByMonth(Blackhole blackhole) {
+		for (int group = 0; group < accumulator.groupCount(); group++) {
+			blackhole.consume(ApiUsageService.groupByMonth(accumulator, group));
+		}
+	}
+
+	@Benchmark
+	public Object groupProjectByDay() {
+		return ApiUsageService.groupProjectByDay(accumulator);
+	}
+
+	@Benchmark
+	public Object groupProjectByMonth() {
+		return ApiUsageService.groupProjectByMonth(accumulator);
+	}
+}
@@ -0,0 +1,88 @@
+package com.backend.sesim.domain.deployment.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.backend.sesim.domain.deployment.config.ApiUsageIngestProperties;
+import com.backend.sesim.domain.deployment.dto.request.ApiUsageUpdateRequest;
+import com.backend.sesim.domain.deployment.entity.Project;
+import com.backend.sesim.domain.deployment.entity.ProjectModelInformation;
+import com.backend.sesim.domain.iam.entity.RoleArn;
+import com.backend.sesim.domain.user.entity.User;
+
+/**
+ * updateApiUsage 적재 경로 (모델 정보 캐시 조회 + write-behind 버퍼 병합)
+ * 버퍼가 가득 차면 스텁 저장소로 flush 되므로 DB 없이 병합/flush 비용만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ApiUsageIngestBenchmark {
+
+	private static final String[] API_NAMES = {"predict", "detect", "health", "batch"};
+
+	// 서로 다른 (모델 정보, API, 날짜) 키 수
+	@Param({"10000", "1000000"})
+	private int keySpace;
+
+	private ApiUsageService service;
+	private ApiUsageIngestBuffer buffer;
+	private ApiUsageUpdateRequest[] requests;
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		int next;
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		// 730일 x 100개 모델 정보 (프로젝트 10개)
+		ApiUsageBenchmarkFixture fixture = ApiUsageBenchmarkFixture.ofRows(73_000);
+		User user = ApiUsageBenchmarkFixture.user();
+		RoleArn roleArn = ApiUsageBenchmarkFixture.roleArn(user);
+		List<Project> projects = fixture.projects(roleArn);
+
+		buffer = ApiUsageBenchmarkFixture.buffer(new ApiUsageIngestProperties());
+		service = ApiUsageBenchmarkFixture.service(user, roleArn, projects, List.of(), List.of(), List.of(), buffer);
+
+		List<ProjectModelInformation> infos = projects.stream()
+			.flatMap(project -> project.getModelInformations().stream())
+			.toList();
+		requests = new ApiUsageUpdateRequest[keySpace];
+		for (int i = 0; i < keySpace; i++) {
+			ProjectModelInformation info = infos.get(i % infos.size());
+			requests[i] = ApiUsageUpdateRequest.builder()
+				.projectId(info.getProject().getId())
+				.modelId(info.getModel().getId())
+				.apiName(API_NAMES[(i / infos.size()) % API_NAMES.length])
+				.totalRequestCount(i % 1_000)
+				.totalSeconds(i % 3_600)
+				.intervalDate(ApiUsageBenchmarkFixture.END_DATE.minusDays(i / (infos.size() * API_NAMES.length)))
+				.build();
+		}
+	}
+
+	@TearDown(Level.Iteration)
+	public void drain() {
+		buffer.flush();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void updateApiUsage(Cursor cursor) {
+		service.updateApiUsage(requests[cursor.next]);
+		cursor.next = (cursor.next + 1) % requests.length;
+	}
+}
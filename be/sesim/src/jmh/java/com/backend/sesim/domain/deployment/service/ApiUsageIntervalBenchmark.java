@@ -0,0 +1,102 @@
+package com.backend.sesim.domain.deployment.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.backend.sesim.domain.deployment.config.ApiUsageIngestProperties;
+import com.backend.sesim.domain.deployment.dto.request.ApiUsageIntervalRequest;
+import com.backend.sesim.domain.deployment.dto.response.ApiUsageIntervalAllAllResponse;
+import com.backend.sesim.domain.deployment.dto.response.ApiUsageIntervalAllSpecificResponse;
+import com.backend.sesim.domain.deployment.dto.response.ApiUsageIntervalResponse;
+import com.backend.sesim.domain.deployment.dto.response.ApiUsageIntervalSpecificAllResponse;
+import com.backend.sesim.domain.deployment.dto.response.ApiUsageIntervalSpecificSpecificResponse;
+import com.backend.sesim.domain.deployment.entity.Project;
+import com.backend.sesim.domain.iam.entity.RoleArn;
+import com.backend.sesim.domain.user.entity.User;
+
+/**
+ * 기간 사용량 응답 빌더 (저장소는 미리 만든 행을 돌려주는 스텁이므로 순수 조립 비용만 측정)
+ * 벤치마크마다 필요한 데이터만 만들도록 상태를 나눔
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ApiUsageIntervalBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class GroupedSums {
+
+		@Param({"10000", "1000000", "10000000"})
+		private int rows;
+
+		ApiUsageService service;
+		ApiUsageIntervalRequest request;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			ApiUsageBenchmarkFixture fixture = ApiUsageBenchmarkFixture.ofRows(rows);
+			User user = ApiUsageBenchmarkFixture.user();
+			RoleArn roleArn = ApiUsageBenchmarkFixture.roleArn(user);
+			// 모델별/프로젝트별 합계는 모양이 같으므로 같은 목록을 공유
+			var sums = fixture.usageSums();
+			service = ApiUsageBenchmarkFixture.service(user, roleArn, fixture.projects(roleArn), sums, sums,
+				List.of(), ApiUsageBenchmarkFixture.buffer(new ApiUsageIngestProperties()));
+			request = new ApiUsageIntervalRequest(fixture.startDate, ApiUsageBenchmarkFixture.END_DATE, 1L);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class DailyRollups {
+
+		@Param({"10000", "1000000", "10000000"})
+		private int rows;
+
+		ApiUsageService service;
+		ApiUsageIntervalRequest request;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			ApiUsageBenchmarkFixture fixture = ApiUsageBenchmarkFixture.ofRows(rows);
+			User user = ApiUsageBenchmarkFixture.user();
+			RoleArn roleArn = ApiUsageBenchmarkFixture.roleArn(user);
+			List<Project> projects = fixture.projects(roleArn);
+			service = ApiUsageBenchmarkFixture.service(user, roleArn, projects, List.of(), List.of(),
+				fixture.dailyRollups(projects), ApiUsageBenchmarkFixture.buffer(new ApiUsageIngestProperties()));
+			request = new ApiUsageIntervalRequest(fixture.startDate, ApiUsageBenchmarkFixture.END_DATE, null);
+		}
+	}
+
+	@Benchmark
+	public ApiUsageIntervalSpecificSpecificResponse intervalSpecificSpecific(GroupedSums state) {
+		return state.service.getIntervalSpecificSpecificApiUsage(state.request);
+	}
+
+	@Benchmark
+	public ApiUsageIntervalSpecificAllResponse intervalSpecificAll(GroupedSums state) {
+		return state.service.getIntervalSpecificAllApiUsage(state.request);
+	}
+
+	@Benchmark
+	public ApiUsageIntervalAllSpecificResponse intervalAllSpecific(GroupedSums state) {
+		return state.service.getIntervalAllSpecificApiUsage(state.request);
+	}
+
+	@Benchmark
+	public ApiUsageIntervalAllAllResponse intervalAllAll(GroupedSums state) {
+		return state.service.getIntervalAllAllApiUsage(state.request);
+	}
+
+	@Benchmark
+	public ApiUsageIntervalResponse interval(DailyRollups state) {
+		return state.service.getIntervalApiUsage(state.request);
+	}
+}
@@ -0,0 +1,105 @@
+package com.backend.sesim.domain.deployment.service;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.backend.sesim.domain.deployment.dto.response.ApiUsageResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 한 사용자의 여러 연결에 같은 이벤트 전송: 연결마다 Jackson 직렬화 vs 한 번 인코딩한 바이트 재사용
+ * 연결 쓰기는 연결별 ByteArrayOutputStream 으로 대신함 (네트워크 비용 제외, 인코딩 비용만 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SseBroadcastBenchmark {
+
+	private static final int PROJECTS = 20;
+	private static final int MODELS_PER_PROJECT = 10;
+
+	@Param({"1", "10", "100"})
+	private int emitters;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private ApiUsageResponse response;
+	private List<ByteArrayOutputStream> sinks;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		List<ApiUsageResponse.ProjectApiUsageDto> projects = new ArrayList<>(PROJECTS);
+		for (long p = 1; p <= PROJECTS; p++) {
+			List<ApiUsageResponse.ModelApiUsageDto> models = new ArrayList<>(MODELS_PER_PROJECT);
+			for (long m = 1; m <= MODELS_PER_PROJECT; m++) {
+				models.add(ApiUsageResponse.ModelApiUsageDto.builder()
+					.modelId(m)
+					.modelName("model-" + m)
+					.totalRequestCount((int)(p * 1_000 + m))
+					.totalSeconds((int)(p * 3_600 + m))
+					.hourlyRate(1.05 + m)
+					.totalCost(p * (1.05 + m))
+					.build());
+			}
+			projects.add(ApiUsageResponse.ProjectApiUsageDto.builder()
+				.projectId(p)
+				.projectName("project-" + p)
+				.projectTotalRequestCount((int)p * 10_000)
+				.projectTotalSeconds((int)p * 36_000)
+				.projectTotalCost(p * 100.0)
+				.models(models)
+				.build());
+		}
+		response = ApiUsageResponse.builder().projects(projects).build();
+
+		sinks = new ArrayList<>(emitters);
+		for (int i = 0; i < emitters; i++) {
+			sinks.add(new ByteArrayOutputStream(64 * 1024));
+		}
+	}
+
+	/**
+	 * 기존 방식 - SseEmitter.send(event().data(dto))가 연결마다 DTO 트리를 다시 직렬화
+	 */
+	@Benchmark
+	public int serializePerEmitter() throws JsonProcessingException {
+		int written = 0;
+		for (ByteArrayOutputStream sink : sinks) {
+			String payload = objectMapper.writeValueAsString(response);
+			written += write(sink, SseConnection.Event.of(1, "INIT", payload, null));
+		}
+		return written;
+	}
+
+	/**
+	 * SseEmitterRegistry 방식 - 한 번 인코딩한 프레임을 모든 연결에 그대로 씀
+	 */
+	@Benchmark
+	public int serializeOnce() throws JsonProcessingException {
+		String payload = objectMapper.writeValueAsString(response);
+		SseConnection.Event event = SseConnection.Event.of(1, "INIT", payload, null);
+		int written = 0;
+		for (ByteArrayOutputStream sink : sinks) {
+			written += write(sink, event);
+		}
+		return written;
+	}
+
+	private static int write(ByteArrayOutputStream sink, SseConnection.Event event) {
+		sink.reset();
+		sink.writeBytes(event.getFrame());
+		return sink.size();
+	}
+}
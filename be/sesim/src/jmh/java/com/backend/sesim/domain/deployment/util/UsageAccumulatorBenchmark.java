@@ -0,0 +1,127 @@
+package com.backend.sesim.domain.deployment.util;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.backend.sesim.domain.deployment.dto.internal.UsageSum;
+
+/**
+ * 기간 사용량 집계: 기존 다중 스트림 그룹핑 vs 단일 순회 누적기
+ * -prof gc 의 gc.alloc.rate.norm 이 행당 할당 바이트 (OperationsPerInvocation = 행 수)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(UsageAccumulatorBenchmark.ROWS)
+public class UsageAccumulatorBenchmark {
+
+	static final int ROWS = 10_000;
+
+	private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+	private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+	@Param({"20", "200"})
+	private int groupCount;
+
+	private LocalDate startDate;
+	private LocalDate endDate;
+	private List<UsageSum> rows;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		endDate = LocalDate.of(2025, 6, 30);
+		startDate = endDate.minusDays(ROWS / groupCount - 1);
+
+		SplittableRandom random = new SplittableRandom(42);
+		rows = new ArrayList<>(ROWS);
+		for (int day = 0; day < ROWS / groupCount; day++) {
+			LocalDate date = endDate.minusDays(day);
+			for (long group = 1; group <= groupCount; group++) {
+				long requests = random.nextInt(1, 1_000);
+				long seconds = random.nextInt(1, 3_600);
+				rows.add(new UsageSum(date, group, requests, seconds, seconds / 3600.0 * 1.5));
+			}
+		}
+	}
+
+	@Benchmark
+	public void accumulator(Blackhole blackhole) {
+		UsageAccumulator usages = UsageAccumulator.of(startDate, endDate, rows);
+
+		blackhole.consume(usages.totalRequests());
+		blackhole.consume(usages.totalSeconds());
+		blackhole.consume(usages.totalCost());
+		for (int group = 0; group < usages.groupCount(); group++) {
+			blackhole.consume(usages.groupRequests(group));
+			blackhole.consume(usages.groupSeconds(group));
+			blackhole.consume(usages.groupCost(group));
+		}
+		for (int day = usages.dayCount() - 1; day >= 0; day--) {
+			if (usages.hasDay(day)) {
+				blackhole.consume(usages.date(day).format(DAY_FORMAT));
+				blackhole.consume(usages.dayCost(day));
+				for (int group = 0; group < usages.groupCount(); group++) {
+					blackhole.consume(usages.cost(group, day));
+				}
+			}
+		}
+		for (YearMonth month : usages.monthsDescending()) {
+			blackhole.consume(month.format(MONTH_FORMAT));
+			for (int group = 0; group < usages.groupCount(); group++) {
+				blackhole.consume(usages.monthCost(group, month));
+			}
+		}
+	}
+
+	/**
+	 * 누적기 도입 전 방식 - 같은 목록을 합계/그룹/일별/월별마다 다시 스트리밍
+	 */
+	@Benchmark
+	public void multiPassStreams(Blackhole blackhole) {
+		blackhole.consume(rows.stream().mapToInt(UsageSum::getRequestCount).sum());
+		blackhole.consume(rows.stream().mapToInt(UsageSum::getSeconds).sum());
+		blackhole.consume(rows.stream().mapToDouble(UsageSum::getCost).sum());
+
+		Map<Long, List<UsageSum>> groups = rows.stream().collect(Collectors.groupingBy(UsageSum::getGroupId));
+		groups.forEach((groupId, list) -> {
+			blackhole.consume(list.stream().mapToInt(UsageSum::getRequestCount).sum());
+			blackhole.consume(list.stream().mapToInt(UsageSum::getSeconds).sum());
+			blackhole.consume(list.stream().mapToDouble(UsageSum::getCost).sum());
+		});
+
+		Map<LocalDate, List<UsageSum>> days = rows.stream().collect(Collectors.groupingBy(UsageSum::getUsageDate));
+		days.entrySet().stream()
+			.sorted(Map.Entry.<LocalDate, List<UsageSum>>comparingByKey().reversed())
+			.forEach(entry -> {
+				blackhole.consume(entry.getKey().format(DAY_FORMAT));
+				blackhole.consume(entry.getValue().stream().mapToDouble(UsageSum::getCost).sum());
+				blackhole.consume(entry.getValue().stream()
+					.collect(Collectors.groupingBy(UsageSum::getGroupId, Collectors.summingDouble(UsageSum::getCost))));
+			});
+
+		Map<String, Map<Long, List<UsageSum>>> months = rows.stream()
+			.collect(Collectors.groupingBy(u -> u.getUsageDate().format(MONTH_FORMAT),
+				Collectors.groupingBy(UsageSum::getGroupId)));
+		months.forEach((month, byGroup) -> byGroup.forEach((groupId, list) ->
+			blackhole.consume(list.stream().mapToDouble(UsageSum::getCost).sum())));
+	}
+}
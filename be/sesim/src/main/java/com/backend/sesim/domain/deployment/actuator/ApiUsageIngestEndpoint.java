@@ -0,0 +1,39 @@
+package com.backend.sesim.domain.deployment.actuator;
+
+import com.backend.sesim.domain.deployment.config.ApiUsageIngestProperties;
+import com.backend.sesim.domain.deployment.service.ApiUsageIngestBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * /actuator/apiUsageIngest - 적재되었지만 아직 DB에 반영되지 않은 API 사용량 현황
+ */
+@Component
+@Endpoint(id = "apiUsageIngest")
+@RequiredArgsConstructor
+public class ApiUsageIngestEndpoint {
+
+    private final ApiUsageIngestBuffer apiUsageIngestBuffer;
+    private final ApiUsageIngestProperties properties;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("pending", apiUsageIngestBuffer.getPendingCount());
+        status.put("maxPendingSize", properties.getMaxPendingSize());
+        status.put("backpressure", properties.getBackpressure());
+        status.put("flushIntervalMillis", properties.getFlushIntervalMillis());
+        status.put("accepted", apiUsageIngestBuffer.getAcceptedCount().get());
+        status.put("coalesced", apiUsageIngestBuffer.getCoalescedCount().get());
+        status.put("rejected", apiUsageIngestBuffer.getRejectedCount().get());
+        status.put("flushed", apiUsageIngestBuffer.getFlushedCount().get());
+        status.put("failedFlushes", apiUsageIngestBuffer.getFailedFlushCount().get());
+        status.put("lastFlushedAt", apiUsageIngestBuffer.getLastFlushedAt());
+        return status;
+    }
+}
@@ -0,0 +1,30 @@
+package com.backend.sesim.domain.deployment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "api-usage.ingest") // yml에서 api-usage.ingest: 로 설정
+@Getter
+@Setter
+public class ApiUsageIngestProperties {
+
+    // 버퍼를 DB로 내보내는 주기 (밀리초)
+    private long flushIntervalMillis = 1000;
+
+    // 버퍼에 보관할 수 있는 최대 키 개수 (informationId + apiName + intervalDate)
+    private int maxPendingSize = 10000;
+
+    // 한 번의 JDBC 배치로 처리할 최대 행 수
+    private int batchSize = 500;
+
+    // 버퍼가 가득 찼을 때의 처리 방식
+    private Backpressure backpressure = Backpressure.CALLER_FLUSH;
+
+    public enum Backpressure {
+        CALLER_FLUSH,   // 요청 스레드가 직접 flush 후 적재 (ThreadPoolExecutor.CallerRunsPolicy와 같은 방식)
+        REJECT          // 즉시 거절 (클라이언트가 다음 주기에 재전송)
+    }
+}
@@ -0,0 +1,19 @@
+package com.backend.sesim.domain.deployment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "api-usage.notification") // yml에서 api-usage.notification: 로 설정
+@Getter
+@Setter
+public class ApiUsageNotificationProperties {
+
+    // 사용자별 변경을 모아 한 번에 보내는 간격 (밀리초) - 사용자당 이 간격마다 최대 한 번 전송
+    private long debounceWindowMillis = 500;
+
+    // 알림 전송 전용 스레드 수
+    private int poolSize = 2;
+}
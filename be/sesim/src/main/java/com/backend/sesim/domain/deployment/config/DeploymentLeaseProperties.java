@@ -0,0 +1,19 @@
+package com.backend.sesim.domain.deployment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "deployment.lease") // yml에서 deployment.lease: 로 설정
+@Getter
+@Setter
+public class DeploymentLeaseProperties {
+
+    // 배포 실행 점유 유효 시간 (초) - 실행 중인 노드가 갱신하지 못한 채 이 시간이 지나면 중단된 실행으로 봄
+    private long ttlSeconds = 60;
+
+    // 점유 갱신과 중단된 실행 정리 주기 (밀리초, ttlSeconds보다 충분히 짧게) - 스케줄 자체는 deployment.lease.heartbeat-interval-millis 로 읽음
+    private long heartbeatIntervalMillis = 15000;
+}
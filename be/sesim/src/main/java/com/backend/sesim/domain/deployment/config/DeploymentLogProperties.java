@@ -0,0 +1,32 @@
+package com.backend.sesim.domain.deployment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+@Component
+@ConfigurationProperties(prefix = "deployment.log") // yml에서 deployment.log: 로 설정
+@Getter
+@Setter
+public class DeploymentLogProperties {
+
+    // 배포별로 메모리에 보관하는 최근 로그 줄 수 - 넘친 줄은 디스크 파일로 내보냄
+    private int bufferLines = 1000;
+
+    // 로그 파일 디렉토리 - 비우면 java.io.tmpdir/deployment-logs
+    private String spillDir;
+
+    // 같은 배포의 진행 이벤트(PROGRESS) 최소 전송 간격 (밀리초) - 사이의 진행은 누적 값으로 다음 이벤트에 반영
+    private long progressIntervalMillis = 500;
+
+    public Path spillPath() {
+        if (spillDir != null && !spillDir.isBlank()) {
+            return Paths.get(spillDir);
+        }
+        return Paths.get(System.getProperty("java.io.tmpdir"), "deployment-logs");
+    }
+}
@@ -0,0 +1,19 @@
+package com.backend.sesim.domain.deployment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "api-usage.model-info-cache") // yml에서 api-usage.model-info-cache: 로 설정
+@Getter
+@Setter
+public class ProjectModelInfoCacheProperties {
+
+    // (projectId, modelId) 캐시 최대 항목 수
+    private long maxSize = 10000;
+
+    // 무효화 누락 대비 만료 시간 (분)
+    private long expireAfterWriteMinutes = 60;
+}
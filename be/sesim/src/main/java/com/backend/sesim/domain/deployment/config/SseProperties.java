@@ -0,0 +1,66 @@
+package com.backend.sesim.domain.deployment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "sse") // yml에서 sse: 로 설정
+@Getter
+@Setter
+public class SseProperties {
+
+    // 이미터 타임아웃 (밀리초)
+    private long timeoutMillis = 60 * 60 * 1000L;
+
+    // 사용자당 토픽별 최대 연결 수 - 넘으면 가장 오래된 연결을 닫음
+    private int maxEmittersPerUser = 5;
+
+    // 연결별 전송 대기 큐 크기 - 넘으면 가장 오래된 이벤트를 버리고 클라이언트에 INIT 스냅샷을 다시 전송
+    private int queueCapacity = 100;
+
+    // 큐를 비우며 실제로 쓰는 전송 스레드 중 항상 유지하는 수 - 쓰기가 막힌 연결이 있으면 쓰기 중인 연결 수만큼 늘어남
+    private int sendPoolSize = 4;
+
+    // 하트비트(주석 이벤트) 전송 주기 (밀리초) - 스케줄 자체는 sse.heartbeat-interval-millis 로 읽음
+    private long heartbeatIntervalMillis = 15000;
+
+    // 이 시간 동안 쓰기가 한 번도 성공하지 않은 연결은 정리 (하트비트 주기보다 충분히 길게)
+    private long idleTimeoutMillis = 45000;
+
+    // 재연결 재전송용으로 사용자별로 보관하는 최근 이벤트 수
+    private int replayBufferSize = 100;
+
+    // 연결이 모두 끊긴 뒤 재전송 버퍼를 보관하는 시간 (밀리초)
+    private long replayRetentionMillis = 5 * 60 * 1000L;
+
+    // 사용자별 INIT 스냅샷 캐시 최대 항목 수 (토픽 x 사용자)
+    private long snapshotCacheMaxSize = 10000;
+
+    // INIT 스냅샷 캐시 만료 시간 (밀리초) - 변경 이벤트로 무효화되지 않는 변경(프로젝트 추가 등)의 최대 지연
+    private long snapshotCacheTtlMillis = 30000;
+
+    // 노드 간 이벤트 전달 (sse.bus.*)
+    private Bus bus = new Bus();
+
+    @Getter
+    @Setter
+    public static class Bus {
+
+        // in-jvm: 단일 노드, 같은 JVM 연결에만 전송 / jdbc: sse_bus_event 테이블을 폴링해 모든 노드에 전송
+        private String type = "in-jvm";
+
+        // 테이블 폴링 주기 (밀리초) - 스케줄 자체는 sse.bus.poll-interval-millis 로 읽음
+        private long pollIntervalMillis = 200;
+
+        // 한 번 폴링에서 읽는 최대 이벤트 수
+        private int pollBatchSize = 500;
+
+        // 커서를 지난 뒤 늦게 커밋될 수 있는 빈 ID를 다시 조회하는 시간 (밀리초) - 넘으면 롤백된 ID로 보고 포기
+        private long gapTimeoutMillis = 5000;
+
+        // 테이블에 이벤트를 보관하는 시간 (밀리초, gapTimeoutMillis보다 충분히 길게)
+        private long retentionMillis = 10 * 60 * 1000L;
+    }
+}
@@ -0,0 +1,42 @@
+package com.backend.sesim.domain.deployment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+@Component
+@ConfigurationProperties(prefix = "terraform") // yml에서 terraform: 로 설정
+@Getter
+@Setter
+public class TerraformProperties {
+
+    // 프로바이더 플러그인 공유 캐시 디렉토리 (TF_PLUGIN_CACHE_DIR) - 비우면 java.io.tmpdir/terraform/plugin-cache
+    private String pluginCacheDir;
+
+    // 미리 init 해 둔 기준 작업 공간 - 배포마다 여기의 .terraform, 잠금 파일을 복사 (비우면 java.io.tmpdir/terraform/golden)
+    private String goldenWorkspaceDir;
+
+    // 프로바이더 버전 고정 (versions.tf와 .terraform.lock.hcl에 반영)
+    private String awsProviderVersion = "5.97.0";
+    private String tlsProviderVersion = "4.1.0";
+    private String localProviderVersion = "2.5.2";
+
+    public Path pluginCachePath() {
+        return resolve(pluginCacheDir, "plugin-cache");
+    }
+
+    public Path goldenWorkspacePath() {
+        return resolve(goldenWorkspaceDir, "golden");
+    }
+
+    private static Path resolve(String configured, String defaultName) {
+        if (configured != null && !configured.isBlank()) {
+            return Paths.get(configured);
+        }
+        return Paths.get(System.getProperty("java.io.tmpdir"), "terraform", defaultName);
+    }
+}
@@ -1,6 +1,7 @@
 package com.backend.sesim.domain.deployment.controller;
 
 import com.backend.sesim.domain.deployment.dto.request.ApiKeyCheckRequest;
+import com.backend.sesim.domain.deployment.dto.request.ApiUsageBulkUpdateRequest;
 import com.backend.sesim.domain.deployment.dto.request.ApiUsageIntervalRequest;
 import com.backend.sesim.domain.deployment.dto.request.ApiUsageUpdateRequest;
 import com.backend.sesim.domain.deployment.dto.request.TerraformDeployRequest;
@@ -27,6 +28,7 @@ public class DeploymentController {
     private final DeploymentStepSSEService deploymentStepSSEService;
     private final ApiUsageService apiUsageService;
     private final ApiUsageSSEService apiUsageSSEService;
+    private final DeploymentLogService deploymentLogService;
 
     @Operation(summary = "SaaS 계정에 리소스 배포", description = "SaaS 계정에 AWS 리소스를 배포합니다.")
     @PostMapping("/terraform")
@@ -35,6 +37,19 @@ public class DeploymentController {
         return CommonResponseDto.ok();
     }
 
+    @Operation(summary = "실패한 배포 재시도", description = "실패한 배포를 처음부터가 아니라 실패한 단계부터 이어서 진행합니다.")
+    @PostMapping("/projects/{projectId}/retry")
+    public CommonResponseDto retryDeployment(@PathVariable Long projectId) {
+        terraformDeployService.retryDeployment(projectId);
+        return CommonResponseDto.ok();
+    }
+
+    @Operation(summary = "배포 로그 조회", description = "진행 중이거나 마지막으로 실행된 배포의 최근 Terraform / 설치 로그를 조회합니다.")
+    @GetMapping("/projects/{projectId}/logs")
+    public CommonResponseDto<DeploymentLogResponse> getDeploymentLogs(@PathVariable Long projectId) {
+        return CommonResponseDto.ok(deploymentLogService.getRecentLogs(projectId));
+    }
+
     @Operation(summary = "배포 옵션 조회", description = "배포에 필요한 모든 옵션(리전, 인프라 스펙, 모델)을 한 번에 조회합니다.")
     @GetMapping("/options")
     public CommonResponseDto<DeployOptionsResponse> getDeployOptions() {
@@ -50,8 +65,9 @@ public class DeploymentController {
 
     @Operation(summary = "프로젝트 및 모델의 Alb 주소, granfanaUrl, 허용된 ip 조회 및 배포 상태 실시간 모니터링", description = "모든 프로젝트의 Alb 주소, granfanaUrl, 허용된 ip 및 배포 상태를 실시간으로 모니터링하는 SSE 스트림을 제공합니다.")
     @GetMapping(value = "/status/stream", produces = "text/event-stream")
-    public SseEmitter streamDeploymentStatus() {
-        return deploymentStepSSEService.subscribe();
+    public SseEmitter streamDeploymentStatus(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return deploymentStepSSEService.subscribe(lastEventId);
     }
 
     @Operation(summary = "API 사용량 업데이트", description = "API 사용량 정보를 업데이트합니다.")
@@ -61,10 +77,17 @@ public class DeploymentController {
         return CommonResponseDto.ok();
     }
 
+    @Operation(summary = "API 사용량 일괄 업데이트", description = "한 프로젝트의 여러 (모델, API) 사용량을 한 번의 요청으로 업데이트합니다.")
+    @PostMapping("/api-usage/bulk")
+    public CommonResponseDto<?> updateApiUsageBulk(@RequestBody ApiUsageBulkUpdateRequest request) {
+        apiUsageService.updateApiUsageBulk(request);
+        return CommonResponseDto.ok();
+    }
+
     @Operation(summary = "API 사용량 실시간 모니터링", description = "API 사용량을 실시간으로 모니터링하는 SSE 스트림을 제공합니다.")
     @GetMapping(value = "/api-usage/stream", produces = "text/event-stream")
-    public SseEmitter streamApiUsage() {
-        return apiUsageSSEService.subscribe();
+    public SseEmitter streamApiUsage(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return apiUsageSSEService.subscribe(lastEventId);
     }
 
     @Operation(summary = "API 사용량 특정 기간 조회", description = "API 사용량을 시작시간과 마지막 시간까지에 대한 일자별/월별 정보를 제공합니다.")
@@ -0,0 +1,23 @@
+package com.backend.sesim.domain.deployment.dto.internal;
+
+import com.backend.sesim.domain.deployment.entity.DeploymentStep;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 배포 단계 상태 변경 도메인 이벤트 - 커밋 후 STATUS_UPDATE 알림으로 이어짐
+ * 엔티티 대신 값만 담아 다른 스레드에서 지연 로딩 없이 사용
+ */
+@Getter
+@AllArgsConstructor
+public class DeploymentStepChangedEvent {
+
+    private Long projectId;
+    private Long stepId;
+    private String stepName;
+    private String stepStatus;
+
+    public static DeploymentStepChangedEvent of(Long projectId, DeploymentStep step) {
+        return new DeploymentStepChangedEvent(projectId, step.getId(), step.getStepName(), step.getStepStatus());
+    }
+}
@@ -0,0 +1,20 @@
+package com.backend.sesim.domain.deployment.dto.internal;
+
+import lombok.Getter;
+
+/**
+ * 모델 정보(information)별 누적 사용량 합계 (JPQL 생성자 프로젝션)
+ */
+@Getter
+public class InformationUsageTotal {
+
+    private final Long informationId;
+    private final int requestCount;
+    private final int seconds;
+
+    public InformationUsageTotal(Long informationId, Long requestCount, Long seconds) {
+        this.informationId = informationId;
+        this.requestCount = requestCount == null ? 0 : requestCount.intValue();
+        this.seconds = seconds == null ? 0 : seconds.intValue();
+    }
+}
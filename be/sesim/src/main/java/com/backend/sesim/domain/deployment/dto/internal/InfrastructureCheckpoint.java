@@ -0,0 +1,27 @@
+package com.backend.sesim.domain.deployment.dto.internal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 인프라 생성(INFRASTRUCTURE) 단계 체크포인트 - 배포 시작 시 ID를, Terraform 완료 후 출력값을 기록
+ * 재시도는 이 값으로 같은 작업 디렉토리(Terraform 상태)와 생성된 인스턴스를 이어서 사용
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class InfrastructureCheckpoint {
+
+    private String deploymentId;
+    private String customerId;
+
+    // 아래는 Terraform 완료 후에만 채워짐
+    private List<String> ec2PublicIps;
+    private String pemKeyPath;
+    private String albAddress;
+}
@@ -0,0 +1,16 @@
+package com.backend.sesim.domain.deployment.dto.internal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * (프로젝트, 모델)에 해당하는 모델 정보 ID, 시간당 요금 (모델 비용 + 인프라 비용), 프로젝트 소유자 ID
+ */
+@Getter
+@AllArgsConstructor
+public class ModelInfoRate {
+
+    private Long informationId;
+    private double hourlyRate;
+    private Long ownerId;
+}
@@ -0,0 +1,45 @@
+package com.backend.sesim.domain.deployment.dto.internal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 아직 DB에 반영되지 않은 API 사용량 보고 (write-behind 버퍼 항목)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PendingApiUsage {
+
+    private Long informationId;
+    private Long projectId;
+    private Long modelId;
+    private String apiName;
+    private int totalRequestCount;
+    private int totalSeconds;
+    private LocalDate intervalDate;
+
+    // SSE 알림 대상과 금액 계산용 (DB 컬럼 아님)
+    private Long ownerId;
+    private double hourlyRate;
+
+    public Key getKey() {
+        return new Key(informationId, apiName, intervalDate);
+    }
+
+    /**
+     * 버퍼 병합 키 - 같은 키의 보고는 마지막 값만 유지
+     */
+    @Getter
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key {
+        private Long informationId;
+        private String apiName;
+        private LocalDate intervalDate;
+    }
+}
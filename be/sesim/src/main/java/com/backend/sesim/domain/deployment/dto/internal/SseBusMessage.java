@@ -0,0 +1,23 @@
+package com.backend.sesim.domain.deployment.dto.internal;
+
+import com.backend.sesim.domain.deployment.service.SseEmitterRegistry.Topic;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 노드 간 전달되는 SSE 이벤트 (payload는 직렬화가 끝난 JSON)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class SseBusMessage {
+
+    // 버스가 붙인 전역 ID (0이면 받은 노드의 저장소가 붙임)
+    private long eventId;
+    private Topic topic;
+    private Long userId;
+    private String eventName;
+    private String payload;
+    private String coalesceKey;
+}
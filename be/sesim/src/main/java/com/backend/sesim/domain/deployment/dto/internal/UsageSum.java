@@ -0,0 +1,28 @@
+package com.backend.sesim.domain.deployment.dto.internal;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * DB에서 (날짜, 그룹 ID) 단위로 미리 합산된 사용량 (JPQL 생성자 프로젝션)
+ * 그룹 ID는 쿼리에 따라 모델 ID 또는 프로젝트 ID
+ */
+@Getter
+public class UsageSum {
+
+    private final LocalDate usageDate;
+    private final Long groupId;
+    private final int requestCount;
+    private final int seconds;
+    private final double cost;
+
+    // JPQL SUM 결과 타입(Long, Double)을 그대로 받는 생성자
+    public UsageSum(LocalDate usageDate, Long groupId, Long requestCount, Long seconds, Double cost) {
+        this.usageDate = usageDate;
+        this.groupId = groupId;
+        this.requestCount = requestCount == null ? 0 : requestCount.intValue();
+        this.seconds = seconds == null ? 0 : seconds.intValue();
+        this.cost = cost == null ? 0 : cost;
+    }
+}
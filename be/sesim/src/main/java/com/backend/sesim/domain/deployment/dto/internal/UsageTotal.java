@@ -0,0 +1,20 @@
+package com.backend.sesim.domain.deployment.dto.internal;
+
+import lombok.Getter;
+
+/**
+ * 기간 전체 합계 (JPQL 생성자 프로젝션, 데이터가 없으면 0)
+ */
+@Getter
+public class UsageTotal {
+
+    private final int requestCount;
+    private final int seconds;
+    private final double cost;
+
+    public UsageTotal(Long requestCount, Long seconds, Double cost) {
+        this.requestCount = requestCount == null ? 0 : requestCount.intValue();
+        this.seconds = seconds == null ? 0 : seconds.intValue();
+        this.cost = cost == null ? 0 : cost;
+    }
+}
@@ -0,0 +1,38 @@
+package com.backend.sesim.domain.deployment.dto.request;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiUsageBulkUpdateRequest {
+
+    private Long projectId;
+
+    // 한 번의 스케줄러 주기에서 집계된 (모델, API) 별 사용량 목록
+    private List<UsageRow> usages;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UsageRow {
+
+        private Long modelId;
+
+        private String apiName;
+
+        private int totalRequestCount;
+
+        private int totalSeconds;
+
+        private LocalDate intervalDate;
+    }
+}
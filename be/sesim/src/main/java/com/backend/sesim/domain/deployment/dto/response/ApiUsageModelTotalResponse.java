@@ -0,0 +1,23 @@
+package com.backend.sesim.domain.deployment.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * API_USAGE_UPDATE 이벤트 payload - INIT 스냅샷의 (프로젝트, 모델) 한 칸의 최신 누적 값
+ * 클라이언트는 모델 값을 이 값으로 교체하고 프로젝트 합계는 모델 값들로 다시 계산 (같은 이벤트를 다시 받아도 결과가 같음)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApiUsageModelTotalResponse {
+    private Long projectId;
+    private Long modelId;
+    private int totalRequestCount;  // 전체 기간 API 요청 수
+    private int totalSeconds;       // 전체 기간 사용 시간(초)
+    private double totalCost;       // 전체 기간 사용 금액 (USD)
+    private double hourlyRate;      // 모델 시간당 비용 (USD)
+}
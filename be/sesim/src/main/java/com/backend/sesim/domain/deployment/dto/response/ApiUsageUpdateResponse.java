@@ -0,0 +1,19 @@
+package com.backend.sesim.domain.deployment.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * API_USAGE_UPDATE 이벤트 payload - 알림 간격 동안 사용량이 바뀐 (프로젝트, 모델)별 최신 누적 값
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApiUsageUpdateResponse {
+    private List<ApiUsageModelTotalResponse> models;
+}
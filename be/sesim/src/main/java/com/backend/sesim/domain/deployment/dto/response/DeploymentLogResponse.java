@@ -0,0 +1,17 @@
+package com.backend.sesim.domain.deployment.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeploymentLogResponse {
+    private Long projectId;
+    private List<String> lines;
+}
@@ -0,0 +1,23 @@
+package com.backend.sesim.domain.deployment.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배포 단계 안의 세부 진행 (PROGRESS 이벤트) - 개수는 배포 시작부터의 누적 값이라 중간 이벤트가 병합되어도 유지됨
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeploymentProgressResponse {
+    private Long projectId;
+    private String stepName;
+    private String type;        // RESOURCE_CREATED, PACKAGE_INSTALLED, POD_READY
+    private String message;     // 마지막으로 완료된 리소스/패키지/Pod 이름
+    private int resourcesCreated;
+    private int packagesInstalled;
+    private int podsReady;
+}
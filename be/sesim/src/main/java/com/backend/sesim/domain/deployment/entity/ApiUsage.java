@@ -10,7 +10,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "api_usage")
+@Table(name = "api_usage",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_api_usage_info_api_date",
+        columnNames = {"information_id", "api_name", "interval_date"}))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
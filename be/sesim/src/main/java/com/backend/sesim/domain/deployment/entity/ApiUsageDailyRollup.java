@@ -0,0 +1,55 @@
+package com.backend.sesim.domain.deployment.entity;
+
+import java.time.LocalDate;
+
+import com.backend.sesim.global.entity.TimeStampEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 모델 정보(information) 단위 일별 사용량 집계
+ * api_usage 반영 시 같은 트랜잭션에서 갱신되며, 대시보드 기간 조회는 이 테이블을 읽음
+ */
+@Entity
+@Table(name = "api_usage_daily_rollup",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_api_usage_daily_info_date",
+        columnNames = {"information_id", "usage_date"}),
+    indexes = @Index(name = "idx_api_usage_daily_project_date", columnList = "project_id, usage_date"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApiUsageDailyRollup extends TimeStampEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long id;
+
+    @Column(name = "information_id", nullable = false)
+    private Long informationId;
+
+    // 조회 시 조인 없이 그룹핑하기 위한 비정규화 컬럼
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "model_id", nullable = false)
+    private Long modelId;
+
+    @Column(name = "usage_date", nullable = false)
+    private LocalDate usageDate;
+
+    @Column(name = "total_request_count", nullable = false)
+    private int totalRequestCount;
+
+    @Column(name = "total_seconds", nullable = false)
+    private int totalSeconds;
+
+    // 집계 시점의 시간당 요금 (모델 비용 + 인프라 비용) 기준
+    @Column(name = "total_cost", nullable = false)
+    private double totalCost;
+}
@@ -0,0 +1,46 @@
+package com.backend.sesim.domain.deployment.entity;
+
+import java.time.LocalDate;
+
+import com.backend.sesim.global.entity.TimeStampEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로젝트 단위 월별 사용량 집계 (api_usage_daily_rollup에서 다시 합산)
+ */
+@Entity
+@Table(name = "api_usage_monthly_rollup",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_api_usage_monthly_project_month",
+        columnNames = {"project_id", "usage_month"}))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApiUsageMonthlyRollup extends TimeStampEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    // 해당 월의 1일
+    @Column(name = "usage_month", nullable = false)
+    private LocalDate usageMonth;
+
+    @Column(name = "total_request_count", nullable = false)
+    private int totalRequestCount;
+
+    @Column(name = "total_seconds", nullable = false)
+    private int totalSeconds;
+
+    @Column(name = "total_cost", nullable = false)
+    private double totalCost;
+}
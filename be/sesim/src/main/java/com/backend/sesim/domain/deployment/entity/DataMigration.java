@@ -0,0 +1,29 @@
+package com.backend.sesim.domain.deployment.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한 번만 실행해야 하는 데이터 이관 기록 (이름이 기본 키라 여러 노드가 동시에 시작해도 한 노드만 기록)
+ * 행은 DataMigrationJdbcRepository가 JDBC로 넣으며, 엔티티는 스키마 생성용
+ */
+@Entity
+@Table(name = "data_migration")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DataMigration {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,35 @@
+package com.backend.sesim.domain.deployment.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 배포 실행의 점유 - 한 프로젝트는 한 노드에서만 실행되고, 실행 중인 노드가 주기적으로 만료 시각을 갱신
+ * 만료된 점유의 진행 중 단계는 노드가 죽거나 재시작되어 중단된 것으로 보고 실패 처리 (재시도 가능)
+ * 행은 DeploymentRunLeaseJdbcRepository가 JDBC로 관리하며, 엔티티는 스키마 생성과 JPQL 조건용
+ */
+@Entity
+@Table(name = "deployment_run_lease")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeploymentRunLease {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    // 실행 중인 노드 (DeploymentRunLeaseService.nodeId)
+    @Column(name = "owner_node", nullable = false, length = 100)
+    private String ownerNode;
+
+    // 노드 간 시계 차이를 피하려고 DB 시각 기준으로 기록
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
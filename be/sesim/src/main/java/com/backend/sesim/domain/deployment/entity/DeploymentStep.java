@@ -33,8 +33,16 @@ public class DeploymentStep extends TimeStampEntity {
     @Column(name = "step_status", length = 50)
     private String stepStatus; // ENUM("PENDING", "DEPLOYING", "DEPLOYED", "FAILED")
 
+    // 단계 결과 체크포인트 (JSON) - 재시도 시 완료된 단계를 다시 실행하지 않고 이 값으로 이어감
+    @Column(name = "checkpoint", columnDefinition = "TEXT")
+    private String checkpoint;
+
     // 상태 업데이트 메서드
     public void updateStatus(String status) {
         this.stepStatus = status;
     }
+
+    public void updateCheckpoint(String checkpoint) {
+        this.checkpoint = checkpoint;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.backend.sesim.domain.deployment.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노드 간 SSE 이벤트 전달용 테이블 (sse.bus.type=jdbc)
+ * 각 노드가 id 순으로 폴링해 자기 노드의 연결에 전달하며, id는 그대로 SSE 이벤트 ID로 쓰임
+ * 행은 JdbcSseEventBus가 JDBC로 넣고 지우며, 엔티티는 스키마 생성용
+ */
+@Entity
+@Table(name = "sse_bus_event",
+        indexes = @Index(name = "idx_sse_bus_event_created_at", columnList = "created_at"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SseBusEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long id;
+
+    @Column(name = "topic", nullable = false, length = 32)
+    private String topic;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "event_name", nullable = false, length = 64)
+    private String eventName;
+
+    // 직렬화가 끝난 JSON (노드마다 다시 직렬화하지 않음)
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "coalesce_key", length = 128)
+    private String coalesceKey;
+
+    // 노드 간 시계 차이를 피하려고 DB 시각으로 기록
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
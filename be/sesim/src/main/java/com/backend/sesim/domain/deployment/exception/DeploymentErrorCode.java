@@ -9,9 +9,13 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum DeploymentErrorCode implements ErrorCode {
 
+    INVALID_USAGE_PERIOD(400, "조회 기간이 올바르지 않습니다. 시작일과 종료일을 확인해주세요. (최대 3660일)"),
     UNAUTHORIZED_PROJECT_ACCESS(403, "해당 프로젝트에 대한 접근 권한이 없습니다."),
     MODEL_INFO_NOT_FOUND(404, "해당 프로젝트의 모델 정보를 찾을 수 없습니다."),
-    PROJECT_NOT_FOUND(404, "프로젝트를 찾을 수 없습니다.");
+    PROJECT_NOT_FOUND(404, "프로젝트를 찾을 수 없습니다."),
+    DEPLOYMENT_NOT_RETRYABLE(409, "실패한 단계가 없거나 이어서 진행할 수 없는 배포입니다."),
+    DEPLOYMENT_IN_PROGRESS(409, "배포가 아직 진행 중입니다. 진행 중인 단계가 끝난 뒤 다시 시도해주세요."),
+    API_USAGE_BUFFER_FULL(429, "API 사용량 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
 
     private final int status;
     private final String message;
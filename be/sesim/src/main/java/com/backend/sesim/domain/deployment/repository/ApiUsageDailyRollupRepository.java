@@ -0,0 +1,90 @@
+package com.backend.sesim.domain.deployment.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.backend.sesim.domain.deployment.dto.internal.InformationUsageTotal;
+import com.backend.sesim.domain.deployment.dto.internal.UsageSum;
+import com.backend.sesim.domain.deployment.dto.internal.UsageTotal;
+import com.backend.sesim.domain.deployment.entity.ApiUsageDailyRollup;
+
+@Repository
+public interface ApiUsageDailyRollupRepository extends JpaRepository<ApiUsageDailyRollup, Long> {
+
+	List<ApiUsageDailyRollup> findByProjectIdInAndUsageDateBetween(List<Long> projectIds, LocalDate startDate,
+		LocalDate endDate);
+
+	// 특정 프로젝트의 (날짜, 모델)별 합계 - 최신 날짜순
+	@Query("""
+		    SELECT new com.backend.sesim.domain.deployment.dto.internal.UsageSum(
+		        d.usageDate, d.modelId, SUM(d.totalRequestCount), SUM(d.totalSeconds), SUM(d.totalCost))
+		    FROM ApiUsageDailyRollup d
+		    WHERE d.projectId = :projectId
+		      AND d.usageDate BETWEEN :startDate AND :endDate
+		    GROUP BY d.usageDate, d.modelId
+		    ORDER BY d.usageDate DESC, d.modelId
+		""")
+	List<UsageSum> sumByProjectGroupByDateAndModel(
+		@Param("projectId") Long projectId,
+		@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate
+	);
+
+	// 여러 프로젝트의 (날짜, 프로젝트)별 합계 - 최신 날짜순
+	@Query("""
+		    SELECT new com.backend.sesim.domain.deployment.dto.internal.UsageSum(
+		        d.usageDate, d.projectId, SUM(d.totalRequestCount), SUM(d.totalSeconds), SUM(d.totalCost))
+		    FROM ApiUsageDailyRollup d
+		    WHERE d.projectId IN :projectIds
+		      AND d.usageDate BETWEEN :startDate AND :endDate
+		    GROUP BY d.usageDate, d.projectId
+		    ORDER BY d.usageDate DESC, d.projectId
+		""")
+	List<UsageSum> sumByProjectsGroupByDateAndProject(
+		@Param("projectIds") List<Long> projectIds,
+		@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate
+	);
+
+	@Query("""
+		    SELECT new com.backend.sesim.domain.deployment.dto.internal.UsageTotal(
+		        SUM(d.totalRequestCount), SUM(d.totalSeconds), SUM(d.totalCost))
+		    FROM ApiUsageDailyRollup d
+		    WHERE d.projectId = :projectId
+		      AND d.usageDate BETWEEN :startDate AND :endDate
+		""")
+	UsageTotal sumTotalByProject(
+		@Param("projectId") Long projectId,
+		@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate
+	);
+
+	@Query("""
+		    SELECT new com.backend.sesim.domain.deployment.dto.internal.UsageTotal(
+		        SUM(d.totalRequestCount), SUM(d.totalSeconds), SUM(d.totalCost))
+		    FROM ApiUsageDailyRollup d
+		    WHERE d.projectId IN :projectIds
+		      AND d.usageDate BETWEEN :startDate AND :endDate
+		""")
+	UsageTotal sumTotalByProjects(
+		@Param("projectIds") List<Long> projectIds,
+		@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate
+	);
+
+	// 여러 모델 정보의 전체 기간 누적 요청 수/사용 시간을 한 번에 합산
+	@Query("""
+		    SELECT new com.backend.sesim.domain.deployment.dto.internal.InformationUsageTotal(
+		        d.informationId, SUM(d.totalRequestCount), SUM(d.totalSeconds))
+		    FROM ApiUsageDailyRollup d
+		    WHERE d.informationId IN :informationIds
+		    GROUP BY d.informationId
+		""")
+	List<InformationUsageTotal> sumByInformationIds(@Param("informationIds") Collection<Long> informationIds);
+}
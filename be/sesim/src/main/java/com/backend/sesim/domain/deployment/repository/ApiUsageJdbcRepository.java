@@ -0,0 +1,118 @@
+package com.backend.sesim.domain.deployment.repository;
+
+import com.backend.sesim.domain.deployment.dto.internal.PendingApiUsage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * api_usage 테이블 JDBC 배치 저장소 (write-behind flush, 일괄 보고용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApiUsageJdbcRepository {
+
+    // uk_api_usage_info_api_date 기준 upsert - 값이 같으면 updated_at도 그대로 두어 바뀐 행만 :now로 표시됨
+    private static final String UPSERT_SQL = """
+            INSERT INTO api_usage (information_id, api_name, total_request_count, total_seconds, interval_date,
+                                   created_at, updated_at)
+            VALUES (:informationId, :apiName, :totalRequestCount, :totalSeconds, :intervalDate, :now, :now)
+            ON DUPLICATE KEY UPDATE
+                updated_at = IF(total_request_count <> VALUES(total_request_count)
+                                    OR total_seconds <> VALUES(total_seconds),
+                                VALUES(updated_at), updated_at),
+                total_request_count = VALUES(total_request_count),
+                total_seconds = VALUES(total_seconds)
+            """;
+
+    // 이번 upsert로 생성/갱신된 행 - 배치가 쓴 행은 커밋까지 이 트랜잭션이 잠그고 있어 다른 쓰기와 섞이지 않음
+    private static final String SELECT_CHANGED_SQL = """
+            SELECT information_id, api_name, interval_date
+            FROM api_usage
+            WHERE information_id IN (:informationIds) AND interval_date IN (:intervalDates)
+              AND updated_at = :now
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * INSERT ... ON DUPLICATE KEY UPDATE 배치 - 락 조회(SELECT ... FOR UPDATE) 없이 한 문장으로 반영
+     * 같은 키에 동시에 들어와도 유니크 키가 중복 생성을 막고, 값이 같으면 아무것도 바꾸지 않음
+     *
+     * @return 실제로 값이 바뀌었거나 새로 생성된 항목
+     */
+    @Transactional
+    public List<PendingApiUsage> upsertAll(List<PendingApiUsage> usages) {
+        if (usages.isEmpty()) {
+            return List.of();
+        }
+
+        // 영향 행 수는 드라이버 설정(useAffectedRows)에 따라 의미가 달라지므로 updated_at으로 변경 여부 판단
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, toParams(usages, now));
+        Set<PendingApiUsage.Key> changedKeys = findChangedKeys(usages, now);
+
+        return usages.stream()
+                .filter(usage -> changedKeys.contains(usage.getKey()))
+                .toList();
+    }
+
+    /**
+     * 방금 upsert한 행 중 updated_at이 이번 반영 시각인 행 (새로 생성되었거나 값이 바뀐 행)
+     */
+    private Set<PendingApiUsage.Key> findChangedKeys(List<PendingApiUsage> usages, LocalDateTime now) {
+        MapSqlParameterSource params = keyParams(usages).addValue("now", Timestamp.valueOf(now));
+
+        Set<PendingApiUsage.Key> changed = new HashSet<>();
+        jdbcTemplate.query(SELECT_CHANGED_SQL, params, rs -> {
+            changed.add(new PendingApiUsage.Key(
+                    rs.getLong("information_id"),
+                    rs.getString("api_name"),
+                    rs.getTimestamp("interval_date").toLocalDateTime().toLocalDate()));
+        });
+        return changed;
+    }
+
+    /**
+     * 배치 키들의 모델 정보 ID x 날짜 IN 조건 (곱집합이라 배치에 없는 키도 섞일 수 있어 결과는 키로 걸러 씀)
+     */
+    private MapSqlParameterSource keyParams(List<PendingApiUsage> usages) {
+        Set<Long> informationIds = usages.stream()
+                .map(PendingApiUsage::getInformationId)
+                .collect(Collectors.toSet());
+        Set<Timestamp> intervalDates = usages.stream()
+                .map(u -> toTimestamp(u.getIntervalDate()))
+                .collect(Collectors.toSet());
+
+        return new MapSqlParameterSource()
+                .addValue("informationIds", informationIds)
+                .addValue("intervalDates", intervalDates);
+    }
+
+    private MapSqlParameterSource[] toParams(List<PendingApiUsage> usages, LocalDateTime now) {
+        return usages.stream()
+                .map(u -> new MapSqlParameterSource()
+                        .addValue("informationId", u.getInformationId())
+                        .addValue("apiName", u.getApiName())
+                        .addValue("totalRequestCount", u.getTotalRequestCount())
+                        .addValue("totalSeconds", u.getTotalSeconds())
+                        .addValue("intervalDate", toTimestamp(u.getIntervalDate()))
+                        .addValue("now", Timestamp.valueOf(now)))
+                .toArray(MapSqlParameterSource[]::new);
+    }
+
+    private Timestamp toTimestamp(LocalDate date) {
+        return Timestamp.valueOf(date.atStartOfDay());
+    }
+}
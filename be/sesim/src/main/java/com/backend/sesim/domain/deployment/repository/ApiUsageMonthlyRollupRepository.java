@@ -0,0 +1,15 @@
+package com.backend.sesim.domain.deployment.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.backend.sesim.domain.deployment.entity.ApiUsageMonthlyRollup;
+
+@Repository
+public interface ApiUsageMonthlyRollupRepository extends JpaRepository<ApiUsageMonthlyRollup, Long> {
+
+	List<ApiUsageMonthlyRollup> findByProjectIdInAndUsageMonth(List<Long> projectIds, LocalDate usageMonth);
+}
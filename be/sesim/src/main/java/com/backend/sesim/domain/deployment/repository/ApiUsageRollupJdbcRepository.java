@@ -0,0 +1,138 @@
+package com.backend.sesim.domain.deployment.repository;
+
+import com.backend.sesim.domain.deployment.dto.internal.PendingApiUsage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용량 집계 테이블(api_usage_daily_rollup, api_usage_monthly_rollup) 갱신 저장소
+ * 바뀐 (모델 정보, 날짜)와 (프로젝트, 월)만 다시 합산하므로 api_usage 크기와 무관하게 비용이 일정함
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApiUsageRollupJdbcRepository {
+
+    private static final String DAILY_SELECT = """
+            SELECT a.information_id, i.project_id, i.model_id, DATE(a.interval_date),
+                   SUM(a.total_request_count), SUM(a.total_seconds),
+                   SUM(a.total_seconds) / 3600.0 * (m.model_price_per_hour + s.spec_price_per_hour),
+                   :now, :now
+            FROM api_usage a
+            JOIN informations i ON i.information_id = a.information_id
+            JOIN models m ON m.model_id = i.model_id
+            JOIN infrastructure_specs s ON s.spec_id = i.spec_id
+            """;
+
+    private static final String DAILY_GROUP_BY = """
+            GROUP BY a.information_id, i.project_id, i.model_id, DATE(a.interval_date),
+                     m.model_price_per_hour, s.spec_price_per_hour
+            """;
+
+    private static final String DAILY_UPSERT_PREFIX = """
+            INSERT INTO api_usage_daily_rollup (information_id, project_id, model_id, usage_date,
+                                                total_request_count, total_seconds, total_cost,
+                                                created_at, updated_at)
+            """;
+
+    private static final String MONTHLY_UPSERT_PREFIX = """
+            INSERT INTO api_usage_monthly_rollup (project_id, usage_month, total_request_count, total_seconds,
+                                                  total_cost, created_at, updated_at)
+            """;
+
+    private static final String ON_DUPLICATE_UPDATE = """
+            ON DUPLICATE KEY UPDATE
+                total_request_count = VALUES(total_request_count),
+                total_seconds = VALUES(total_seconds),
+                total_cost = VALUES(total_cost),
+                updated_at = VALUES(updated_at)
+            """;
+
+    private static final String REFRESH_DAILY_SQL = DAILY_UPSERT_PREFIX + DAILY_SELECT + """
+            WHERE a.information_id = :informationId
+              AND a.interval_date >= :dayStart
+              AND a.interval_date < :nextDayStart
+            """ + DAILY_GROUP_BY + ON_DUPLICATE_UPDATE;
+
+    private static final String REFRESH_MONTHLY_SQL = MONTHLY_UPSERT_PREFIX + """
+            SELECT d.project_id, :usageMonth, SUM(d.total_request_count), SUM(d.total_seconds), SUM(d.total_cost),
+                   :now, :now
+            FROM api_usage_daily_rollup d
+            WHERE d.project_id = :projectId
+              AND d.usage_date BETWEEN :usageMonth AND :monthEnd
+            GROUP BY d.project_id
+            """ + ON_DUPLICATE_UPDATE;
+
+    private static final String REBUILD_DAILY_SQL = DAILY_UPSERT_PREFIX + DAILY_SELECT + DAILY_GROUP_BY
+            + ON_DUPLICATE_UPDATE;
+
+    private static final String REBUILD_MONTHLY_SQL = MONTHLY_UPSERT_PREFIX + """
+            SELECT d.project_id, DATE_SUB(d.usage_date, INTERVAL DAYOFMONTH(d.usage_date) - 1 DAY),
+                   SUM(d.total_request_count), SUM(d.total_seconds), SUM(d.total_cost), :now, :now
+            FROM api_usage_daily_rollup d
+            GROUP BY d.project_id, DATE_SUB(d.usage_date, INTERVAL DAYOFMONTH(d.usage_date) - 1 DAY)
+            """ + ON_DUPLICATE_UPDATE;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 바뀐 사용량이 속한 일별/월별 집계만 다시 계산 (호출 측 트랜잭션에 참여)
+     */
+    public void refresh(Collection<PendingApiUsage> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // 같은 날짜의 여러 API 보고는 하나의 일별 집계로 합쳐지므로 (모델 정보, 날짜) 단위로 중복 제거
+        Set<List<Object>> dailyKeys = new LinkedHashSet<>();
+        Set<List<Object>> monthlyKeys = new LinkedHashSet<>();
+        for (PendingApiUsage usage : changed) {
+            dailyKeys.add(List.of(usage.getInformationId(), usage.getIntervalDate()));
+            monthlyKeys.add(List.of(usage.getProjectId(), usage.getIntervalDate().withDayOfMonth(1)));
+        }
+
+        MapSqlParameterSource[] dailyParams = dailyKeys.stream()
+                .map(key -> {
+                    LocalDate day = (LocalDate) key.get(1);
+                    return new MapSqlParameterSource()
+                            .addValue("informationId", key.get(0))
+                            .addValue("dayStart", Timestamp.valueOf(day.atStartOfDay()))
+                            .addValue("nextDayStart", Timestamp.valueOf(day.plusDays(1).atStartOfDay()))
+                            .addValue("now", now);
+                })
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(REFRESH_DAILY_SQL, dailyParams);
+
+        MapSqlParameterSource[] monthlyParams = monthlyKeys.stream()
+                .map(key -> {
+                    LocalDate usageMonth = (LocalDate) key.get(1);
+                    return new MapSqlParameterSource()
+                            .addValue("projectId", key.get(0))
+                            .addValue("usageMonth", Date.valueOf(usageMonth))
+                            .addValue("monthEnd", Date.valueOf(usageMonth.plusMonths(1).minusDays(1)))
+                            .addValue("now", now);
+                })
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(REFRESH_MONTHLY_SQL, monthlyParams);
+    }
+
+    /**
+     * api_usage 전체로부터 집계 테이블을 다시 계산 (최초 도입 시 백필용, 이미 있는 행은 덮어씀)
+     */
+    public void rebuildAll() {
+        MapSqlParameterSource params = new MapSqlParameterSource("now", Timestamp.valueOf(LocalDateTime.now()));
+        jdbcTemplate.update(REBUILD_DAILY_SQL, params);
+        jdbcTemplate.update(REBUILD_MONTHLY_SQL, params);
+    }
+}
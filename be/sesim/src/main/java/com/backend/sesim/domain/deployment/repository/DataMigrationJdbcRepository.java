@@ -0,0 +1,37 @@
+package com.backend.sesim.domain.deployment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * data_migration 테이블 JDBC 저장소 - 일회성 데이터 이관의 실행 여부 기록
+ */
+@Repository
+@RequiredArgsConstructor
+public class DataMigrationJdbcRepository {
+
+    private static final String INSERT_IGNORE_SQL = """
+            INSERT IGNORE INTO data_migration (name, applied_at)
+            VALUES (:name, :appliedAt)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 이관을 실행한 것으로 기록 (호출 측 트랜잭션에 참여)
+     * 다른 노드가 같은 이관을 기록 중이면 그 트랜잭션이 끝날 때까지 기다림 - 롤백되면 이쪽이 기록
+     *
+     * @return 이번에 기록했으면 true, 이미 실행된 이관이면 false
+     */
+    public boolean markApplied(String name) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("name", name)
+                .addValue("appliedAt", Timestamp.valueOf(LocalDateTime.now()));
+        return jdbcTemplate.update(INSERT_IGNORE_SQL, params) > 0;
+    }
+}
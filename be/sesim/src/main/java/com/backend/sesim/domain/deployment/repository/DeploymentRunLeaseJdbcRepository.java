@@ -0,0 +1,78 @@
+package com.backend.sesim.domain.deployment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * deployment_run_lease 테이블 JDBC 저장소
+ * 만료 시각은 DB 기준(CURRENT_TIMESTAMP)이라 노드 간 시계 차이와 무관
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeploymentRunLeaseJdbcRepository {
+
+    // 만료됐거나 이미 이 노드가 가진 점유만 가져옴 (행 잠금으로 동시 요청 중 하나만 성공)
+    private static final String TAKE_OVER_SQL = """
+            UPDATE deployment_run_lease
+            SET owner_node = :owner, expires_at = CURRENT_TIMESTAMP(3) + INTERVAL '%d' SECOND
+            WHERE project_id = :projectId
+              AND (expires_at < CURRENT_TIMESTAMP(3) OR owner_node = :owner)
+            """;
+
+    private static final String INSERT_IGNORE_SQL = """
+            INSERT IGNORE INTO deployment_run_lease (project_id, owner_node, expires_at)
+            VALUES (:projectId, :owner, CURRENT_TIMESTAMP(3) + INTERVAL '%d' SECOND)
+            """;
+
+    private static final String RENEW_SQL = """
+            UPDATE deployment_run_lease
+            SET expires_at = CURRENT_TIMESTAMP(3) + INTERVAL '%d' SECOND
+            WHERE project_id IN (:projectIds) AND owner_node = :owner
+            """;
+
+    private static final String RELEASE_SQL = """
+            DELETE FROM deployment_run_lease
+            WHERE project_id = :projectId AND owner_node = :owner
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 점유 시도 (호출 측 트랜잭션에 참여 - 커밋 전까지 다른 노드의 같은 프로젝트 시도는 기다림)
+     *
+     * @return 점유가 없었거나 만료됐거나 이미 이 노드의 점유면 true, 다른 노드가 실행 중이면 false
+     */
+    public boolean acquire(Long projectId, String owner, long ttlSeconds) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("owner", owner);
+        if (jdbcTemplate.update(TAKE_OVER_SQL.formatted(ttlSeconds), params) > 0) {
+            return true;
+        }
+        return jdbcTemplate.update(INSERT_IGNORE_SQL.formatted(ttlSeconds), params) > 0;
+    }
+
+    /**
+     * 이 노드가 가진 점유의 만료 시각 연장
+     */
+    public int renew(Collection<Long> projectIds, String owner, long ttlSeconds) {
+        if (projectIds.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectIds", projectIds)
+                .addValue("owner", owner);
+        return jdbcTemplate.update(RENEW_SQL.formatted(ttlSeconds), params);
+    }
+
+    public void release(Long projectId, String owner) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("owner", owner);
+        jdbcTemplate.update(RELEASE_SQL, params);
+    }
+}
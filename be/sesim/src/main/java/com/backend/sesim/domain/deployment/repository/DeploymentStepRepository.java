@@ -2,8 +2,12 @@ package com.backend.sesim.domain.deployment.repository;
 
 import com.backend.sesim.domain.deployment.entity.DeploymentStep;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +15,26 @@ import java.util.Optional;
 public interface DeploymentStepRepository extends JpaRepository<DeploymentStep, Long> {
     List<DeploymentStep> findByProjectIdOrderByStepOrder(Long projectId);
     Optional<DeploymentStep> findByProjectIdAndStepName(Long projectId, String stepName);
+
+    // 여러 프로젝트의 단계를 한 번에 조회 (프로젝트별, 단계 순서대로)
+    List<DeploymentStep> findByProjectIdInOrderByProjectIdAscStepOrderAsc(Collection<Long> projectIds);
+
+    boolean existsByProjectIdAndStepStatus(Long projectId, String stepStatus);
+
+    // 실패한 단계를 대기 상태로 되돌림 (재시도 요청이 동시에 와도 한 번만 성공하도록 조건부 UPDATE)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DeploymentStep s SET s.stepStatus = :pending WHERE s.project.id = :projectId AND s.stepStatus = :failed")
+    int updateStatusByProjectIdAndStatus(@Param("projectId") Long projectId,
+                                         @Param("failed") String failed,
+                                         @Param("pending") String pending);
+
+    // 유효한 실행 점유가 없는 프로젝트의 단계 상태를 일괄 변경 (실행하던 노드가 죽거나 재시작되어 중단된 단계 정리)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE DeploymentStep s SET s.stepStatus = :to
+            WHERE s.stepStatus = :from
+              AND NOT EXISTS (SELECT l.projectId FROM DeploymentRunLease l
+                              WHERE l.projectId = s.project.id AND l.expiresAt >= CURRENT_TIMESTAMP)
+            """)
+    int updateStatusWithoutLiveLease(@Param("from") String from, @Param("to") String to);
 }
\ No newline at end of file
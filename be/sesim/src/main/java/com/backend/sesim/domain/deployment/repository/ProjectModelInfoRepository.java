@@ -3,8 +3,10 @@ package com.backend.sesim.domain.deployment.repository;
 import com.backend.sesim.domain.deployment.entity.ProjectModelInformation;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +16,11 @@ public interface ProjectModelInfoRepository extends JpaRepository<ProjectModelIn
     List<ProjectModelInformation> findByProjectId(Long projectId);
     @Query("SELECT pmi FROM ProjectModelInformation pmi JOIN FETCH pmi.model WHERE pmi.id IN :ids")
     List<ProjectModelInformation> findAllWithModelByIdIn(List<Long> ids);
+    @Query("SELECT pmi FROM ProjectModelInformation pmi JOIN FETCH pmi.model JOIN FETCH pmi.spec " +
+            "JOIN FETCH pmi.project p JOIN FETCH p.roleArn WHERE p.id = :projectId")
+    List<ProjectModelInformation> findAllWithModelAndSpecByProjectId(@Param("projectId") Long projectId);
+    // 여러 프로젝트의 모델 정보를 모델과 함께 한 번에 조회 (배포 상태 스냅샷용)
+    @Query("SELECT pmi FROM ProjectModelInformation pmi JOIN FETCH pmi.model " +
+            "WHERE pmi.project.id IN :projectIds ORDER BY pmi.id")
+    List<ProjectModelInformation> findAllWithModelByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
 }
\ No newline at end of file
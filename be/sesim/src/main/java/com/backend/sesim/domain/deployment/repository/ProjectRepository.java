@@ -13,6 +13,31 @@ import java.util.Optional;
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findAllByRoleArnIn(List<RoleArn> roleArns);
+
+    // 모델 정보와 모델/인프라 스펙까지 한 번에 조회 (요금 계산 시 지연 로딩 방지)
+    @Query("""
+            SELECT p FROM Project p
+            LEFT JOIN FETCH p.modelInformations mi
+            LEFT JOIN FETCH mi.model
+            LEFT JOIN FETCH mi.spec
+            WHERE p.roleArn IN :roleArns
+            """)
+    List<Project> findAllWithModelInformationsByRoleArnIn(@Param("roleArns") List<RoleArn> roleArns);
+
+    // 사용자의 모든 프로젝트를 모델 정보/모델/인프라 스펙과 함께 조회 (RoleArn 목록 조회 없이)
+    @Query("""
+            SELECT p FROM Project p
+            LEFT JOIN FETCH p.modelInformations mi
+            LEFT JOIN FETCH mi.model
+            LEFT JOIN FETCH mi.spec
+            WHERE p.roleArn.user.id = :userId
+            """)
+    List<Project> findAllWithModelInformationsByUserId(@Param("userId") Long userId);
+
+    // 사용자의 모든 프로젝트만 조회 (RoleArn 목록 조회 없이)
+    @Query("SELECT p FROM Project p WHERE p.roleArn.user.id = :userId ORDER BY p.id")
+    List<Project> findAllByUserId(@Param("userId") Long userId);
+
     @Query("SELECT p FROM Project p JOIN FETCH p.roleArn r JOIN FETCH r.user WHERE p.id = :projectId")
     Optional<Project> findProjectWithRoleArnById(@Param("projectId") Long projectId);
 }
\ No newline at end of file
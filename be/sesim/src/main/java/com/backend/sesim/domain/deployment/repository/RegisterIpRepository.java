@@ -4,6 +4,7 @@ import com.backend.sesim.domain.deployment.entity.RegisterIp;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +13,9 @@ public interface RegisterIpRepository extends JpaRepository<RegisterIp, Long> {
      * 프로젝트 ID로 등록된 IP 목록 조회
      */
     List<RegisterIp> findByProjectId(Long projectId);
+
+    /**
+     * 여러 프로젝트에 등록된 IP 목록을 한 번에 조회
+     */
+    List<RegisterIp> findByProjectIdInOrderByIdAsc(Collection<Long> projectIds);
 }
\ No newline at end of file
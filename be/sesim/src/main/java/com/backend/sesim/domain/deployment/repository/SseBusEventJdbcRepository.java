@@ -0,0 +1,110 @@
+package com.backend.sesim.domain.deployment.repository;
+
+import com.backend.sesim.domain.deployment.dto.internal.SseBusMessage;
+import com.backend.sesim.domain.deployment.service.SseEmitterRegistry.Topic;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * sse_bus_event 테이블 JDBC 저장소 (MySQL 폴링 이벤트 버스)
+ * 생성 시각은 DB 기준(CURRENT_TIMESTAMP)이라 노드 간 시계 차이와 무관
+ */
+@Repository
+@RequiredArgsConstructor
+public class SseBusEventJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO sse_bus_event (topic, user_id, event_name, payload, coalesce_key, created_at)
+            VALUES (:topic, :userId, :eventName, :payload, :coalesceKey, CURRENT_TIMESTAMP(3))
+            """;
+
+    private static final String SELECT_COLUMNS = """
+            SELECT event_id, topic, user_id, event_name, payload, coalesce_key
+            FROM sse_bus_event
+            """;
+
+    private static final String SELECT_AFTER_SQL = SELECT_COLUMNS + """
+            WHERE event_id > :cursor
+            ORDER BY event_id
+            LIMIT :limit
+            """;
+
+    private static final String SELECT_BY_IDS_SQL = SELECT_COLUMNS + """
+            WHERE event_id IN (:eventIds)
+            ORDER BY event_id
+            """;
+
+    private static final String DELETE_OLDER_THAN_SQL = """
+            DELETE FROM sse_bus_event
+            WHERE created_at < CURRENT_TIMESTAMP(3) - INTERVAL '%d' SECOND
+            """;
+
+    private static final String MAX_ID_SQL = "SELECT COALESCE(MAX(event_id), 0) FROM sse_bus_event";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 생성된 이벤트 ID
+     */
+    public long insert(Topic topic, Long userId, String eventName, String payload, String coalesceKey) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("topic", topic.name())
+                .addValue("userId", userId)
+                .addValue("eventName", eventName)
+                .addValue("payload", payload)
+                .addValue("coalesceKey", coalesceKey);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(INSERT_SQL, params, keyHolder, new String[] {"event_id"});
+        return keyHolder.getKey().longValue();
+    }
+
+    /**
+     * 커서 이후의 이벤트 (id 순)
+     */
+    public List<SseBusMessage> findAfter(long cursor, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cursor", cursor)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(SELECT_AFTER_SQL, params, SseBusEventJdbcRepository::toMessage);
+    }
+
+    /**
+     * 지정한 ID의 이벤트 (커서를 지난 뒤에 커밋된 이벤트 재조회용)
+     */
+    public List<SseBusMessage> findByIds(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_BY_IDS_SQL, new MapSqlParameterSource("eventIds", eventIds),
+                SseBusEventJdbcRepository::toMessage);
+    }
+
+    public int deleteOlderThan(long retentionSeconds) {
+        return jdbcTemplate.getJdbcTemplate().update(DELETE_OLDER_THAN_SQL.formatted(retentionSeconds));
+    }
+
+    public long findMaxId() {
+        Long maxId = jdbcTemplate.getJdbcTemplate().queryForObject(MAX_ID_SQL, Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    private static SseBusMessage toMessage(ResultSet rs, int rowNum) throws SQLException {
+        return SseBusMessage.builder()
+                .eventId(rs.getLong("event_id"))
+                .topic(Topic.valueOf(rs.getString("topic")))
+                .userId(rs.getLong("user_id"))
+                .eventName(rs.getString("event_name"))
+                .payload(rs.getString("payload"))
+                .coalesceKey(rs.getString("coalesce_key"))
+                .build();
+    }
+}
@@ -0,0 +1,234 @@
+package com.backend.sesim.domain.deployment.service;
+
+import com.backend.sesim.domain.deployment.config.ApiUsageIngestProperties;
+import com.backend.sesim.domain.deployment.dto.internal.PendingApiUsage;
+import com.backend.sesim.domain.deployment.exception.DeploymentErrorCode;
+import com.backend.sesim.global.exception.GlobalException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * API 사용량 write-behind 버퍼
+ * 보고를 (informationId, apiName, intervalDate) 키로 병합해 메모리에 보관하고, 주기적으로 upsert 배치로 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApiUsageIngestBuffer {
+
+    private final ApiUsageIngestProperties properties;
+    private final ApiUsageStoreService apiUsageStoreService;
+    private final ApiUsageUpdateNotifier apiUsageUpdateNotifier;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<PendingApiUsage.Key, PendingApiUsage> pending = new ConcurrentHashMap<>();
+    // 버퍼 항목 수 - 새 키는 넣기 전에 여기서 자리를 먼저 확보해 동시 요청이 상한을 넘지 않게 함
+    private final AtomicInteger size = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Getter
+    private final AtomicLong acceptedCount = new AtomicLong();
+    @Getter
+    private final AtomicLong coalescedCount = new AtomicLong();
+    @Getter
+    private final AtomicLong rejectedCount = new AtomicLong();
+    @Getter
+    private final AtomicLong flushedCount = new AtomicLong();
+    @Getter
+    private final AtomicLong failedFlushCount = new AtomicLong();
+    @Getter
+    private volatile LocalDateTime lastFlushedAt;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("api_usage.ingest.pending", size, AtomicInteger::get)
+                .description("DB에 아직 반영되지 않은 API 사용량 보고 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용량 보고를 버퍼에 적재 (같은 키는 마지막 값으로 덮어씀)
+     */
+    public void offer(PendingApiUsage usage) {
+        PendingApiUsage.Key key = usage.getKey();
+
+        // 이미 있는 키는 자리를 더 쓰지 않고 덮어씀
+        if (pending.computeIfPresent(key, (k, previous) -> usage) != null) {
+            coalescedCount.incrementAndGet();
+            acceptedCount.incrementAndGet();
+            return;
+        }
+
+        if (!tryReserve()) {
+            if (properties.getBackpressure() == ApiUsageIngestProperties.Backpressure.CALLER_FLUSH) {
+                // CALLER_FLUSH: 요청 스레드가 직접 비우고 다시 자리 확보
+                flush();
+            }
+            if (!tryReserve()) {
+                rejectedCount.incrementAndGet();
+                log.warn("API 사용량 버퍼 가득 참, 보고 거절: informationId={}, apiName={}",
+                        usage.getInformationId(), usage.getApiName());
+                throw new GlobalException(DeploymentErrorCode.API_USAGE_BUFFER_FULL);
+            }
+        }
+
+        if (pending.put(key, usage) != null) {
+            // 자리를 확보하는 사이 같은 키가 먼저 들어왔으면 확보한 자리는 반환
+            size.decrementAndGet();
+            coalescedCount.incrementAndGet();
+        }
+        acceptedCount.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${api-usage.ingest.flush-interval-millis:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 버퍼를 비우며 batchSize 단위로 DB에 반영
+     *
+     * @return 반영을 시도한 행 수
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            int total = 0;
+            while (!pending.isEmpty()) {
+                List<PendingApiUsage> batch = drain(properties.getBatchSize());
+                if (batch.isEmpty()) {
+                    break;
+                }
+                if (!writeBatch(batch)) {
+                    break;
+                }
+                total += batch.size();
+            }
+            if (total > 0) {
+                lastFlushedAt = LocalDateTime.now();
+            }
+            return total;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 일괄 보고를 버퍼를 거치지 않고 바로 반영
+     * 같은 키의 버퍼 값은 일괄 보고보다 먼저 들어온 값이므로 버리고, flush와 같은 잠금 안에서 써서
+     * flush가 이미 꺼낸 이전 값이 일괄 보고 뒤에 반영되지 않게 함
+     *
+     * @return 실제로 값이 바뀌었거나 새로 생성된 항목 수
+     */
+    public int writeThrough(List<PendingApiUsage> usages) {
+        flushLock.lock();
+        try {
+            Map<PendingApiUsage.Key, PendingApiUsage> evicted = new HashMap<>();
+            for (PendingApiUsage usage : usages) {
+                PendingApiUsage buffered = pending.remove(usage.getKey());
+                if (buffered != null) {
+                    size.decrementAndGet();
+                    evicted.put(usage.getKey(), buffered);
+                }
+            }
+
+            List<PendingApiUsage> changed;
+            try {
+                changed = apiUsageStoreService.saveAll(usages);
+            } catch (RuntimeException e) {
+                // 일괄 반영이 롤백되면 버린 값을 되돌림 (그 사이 들어온 더 최신 값이 있으면 그 값을 유지)
+                evicted.forEach((key, usage) -> {
+                    if (pending.putIfAbsent(key, usage) == null) {
+                        size.incrementAndGet();
+                    }
+                });
+                throw e;
+            }
+
+            apiUsageUpdateNotifier.notifyChanges(changed);
+            return changed.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int getPendingCount() {
+        return size.get();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        int flushed = flush();
+        log.info("종료 전 API 사용량 버퍼 반영: {}건", flushed);
+    }
+
+    /**
+     * 새 키 하나의 자리를 확보 (상한에 도달했으면 false)
+     */
+    private boolean tryReserve() {
+        while (true) {
+            int current = size.get();
+            if (current >= properties.getMaxPendingSize()) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private List<PendingApiUsage> drain(int limit) {
+        List<PendingApiUsage> batch = new ArrayList<>(Math.min(limit, pending.size()));
+        Iterator<PendingApiUsage.Key> keys = pending.keySet().iterator();
+        while (keys.hasNext() && batch.size() < limit) {
+            PendingApiUsage usage = pending.remove(keys.next());
+            if (usage != null) {
+                size.decrementAndGet();
+                batch.add(usage);
+            }
+        }
+        return batch;
+    }
+
+    private boolean writeBatch(List<PendingApiUsage> batch) {
+        List<PendingApiUsage> changed;
+        try {
+            changed = apiUsageStoreService.saveAll(batch);
+        } catch (Exception e) {
+            failedFlushCount.incrementAndGet();
+            log.error("API 사용량 배치 반영 실패, 다음 주기에 재시도: {}건", batch.size(), e);
+            // 실패한 항목은 다시 버퍼로 (그 사이 들어온 더 최신 값이 있으면 그 값을 유지)
+            // 이미 받아들인 보고라 상한을 잠시 넘더라도 되돌려 놓음
+            batch.forEach(usage -> {
+                if (pending.putIfAbsent(usage.getKey(), usage) == null) {
+                    size.incrementAndGet();
+                }
+            });
+            return false;
+        }
+
+        flushedCount.addAndGet(batch.size());
+        log.debug("API 사용량 배치 반영: 전체={}, 변경={}", batch.size(), changed.size());
+        // 값이 바뀐 항목은 사용자별로 모아 알림 스레드에서 전송
+        apiUsageUpdateNotifier.notifyChanges(changed);
+        return true;
+    }
+}
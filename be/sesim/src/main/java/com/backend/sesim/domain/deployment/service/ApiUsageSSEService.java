@@ -1,171 +1,68 @@
 package com.backend.sesim.domain.deployment.service;
 
-import com.backend.sesim.domain.deployment.dto.response.ApiUsageResponse;
-import com.backend.sesim.domain.deployment.entity.Project;
-import com.backend.sesim.domain.deployment.repository.ProjectModelInfoRepository;
-import com.backend.sesim.domain.deployment.repository.ProjectRepository;
-import com.backend.sesim.domain.iam.entity.RoleArn;
+import com.backend.sesim.domain.deployment.dto.response.ApiUsageUpdateResponse;
+import com.backend.sesim.domain.deployment.service.SseEmitterRegistry.Topic;
 import com.backend.sesim.global.util.SecurityUtils;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class ApiUsageSSEService {
 
-    private static final Long DEFAULT_TIMEOUT = 60 * 60 * 1000L; // 1시간
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final SseEventBus sseEventBus;
     private final ProjectService projectService;
     private final SecurityUtils securityUtils;
-    private final ProjectRepository projectRepository;
+
+    @PostConstruct
+    void registerSnapshotLoader() {
+        sseEmitterRegistry.registerSnapshotLoader(Topic.API_USAGE, projectService::getAllUserProjectsApiUsage);
+    }
 
     /**
      * 클라이언트가 SSE에 연결할 때 호출되는 메서드
+     * 스냅샷이 캐시에 있으면 DB를 쓰지 않으므로 트랜잭션을 열지 않음 (적재 시에는 ProjectService가 트랜잭션을 염)
      */
-    public SseEmitter subscribe() {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter subscribe(String lastEventId) {
         // 현재 로그인한 사용자 ID 가져오기
         Long userId = securityUtils.getCurrentUsersId();
 
-        String emitterId = generateEmitterId(userId);
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-
-        emitters.put(emitterId, emitter);
-        log.info("새로운 API 사용량 SSE 연결 생성: {}", emitterId);
-
-        // 연결 종료 시 emitter 제거
-        emitter.onCompletion(() -> {
-            emitters.remove(emitterId);
-            log.info("API 사용량 SSE 연결 완료: {}", emitterId);
-        });
-
-        emitter.onTimeout(() -> {
-            emitters.remove(emitterId);
-            log.info("API 사용량 SSE 연결 타임아웃: {}", emitterId);
-        });
-
-        emitter.onError((e) -> {
-            emitters.remove(emitterId);
-            log.error("API 사용량 SSE 연결 에러: {}", emitterId, e);
-        });
-
-        // 연결 직후 초기 상태 전송
-        try {
-            sendInitialStatus(emitter);
-            // 연결 확인용 이벤트 전송
-            emitter.send(SseEmitter.event()
-                    .name("connect")
-                    .data("connected to API usage stream!"));
-        } catch (IOException e) {
-            emitters.remove(emitterId);
-            log.error("API 사용량 초기 데이터 전송 실패: {}", emitterId, e);
-        }
-
-        return emitter;
-    }
-
-    /**
-     * 초기 API 사용량 데이터를 전송
-     */
-    private void sendInitialStatus(SseEmitter emitter) throws IOException {
-        ApiUsageResponse apiUsage = projectService.getAllUserProjectsApiUsage();
-        emitter.send(SseEmitter.event()
-                .name("INIT")
-                .data(apiUsage));
-    }
-
-    /**
-     * 프로젝트 ID로 프로젝트 소유자의 사용자 ID 조회
-     */
-    private Long getProjectOwnerId(Long projectId) {
-        try {
-            Project project = projectRepository.findById(projectId)
-                    .orElseThrow(() -> new RuntimeException("프로젝트를 찾을 수 없음: " + projectId));
+        // 등록 이후의 변경 알림은 초기 데이터 뒤에 대기하므로, 클라이언트는 INIT 이전 알림을 무시하면 됨
+        SseConnection connection = sseEmitterRegistry.register(Topic.API_USAGE, userId, lastEventId);
 
-            // 프로젝트의 RoleArn을 통해 사용자 ID 조회
-            RoleArn roleArn = project.getRoleArn();
-            if (roleArn != null && roleArn.getUser() != null) {
-                return roleArn.getUser().getId();
-            }
-
-            // 소유자 정보가 없는 경우
-            log.warn("프로젝트 {} 소유자 정보 없음", projectId);
-            return null;
-        } catch (Exception e) {
-            log.error("프로젝트 소유자 ID 조회 실패: {}", e.getMessage());
-            return null;
+        // 연결 직후 초기 상태 전송 (Last-Event-ID 이후 이벤트를 재전송했으면 생략)
+        if (!connection.isReplayed()) {
+            sendInitialStatus(connection);
         }
-    }
-
-
-    /**
-     * 특정 프로젝트와 모델의 API 사용량 업데이트 알림 - 인증 없이 사용 가능
-     */
-    public void notifyApiUsageUpdateByProjectAndModel(Long projectId, Long modelId) {
-        try {
-            // 프로젝트 소유자 ID 조회
-            Long ownerId = getProjectOwnerId(projectId);
-            if (ownerId == null) {
-                log.warn("프로젝트 소유자를 찾을 수 없음, API 사용량 업데이트 알림 전송 건너뜀: {}", projectId);
-                return;
-            }
+        // 연결 확인용 이벤트 전송
+        sseEmitterRegistry.sendTo(connection, "connect", "connected to API usage stream!");
 
-            // 특정 프로젝트와 모델에 대한 API 사용량만 조회
-            ApiUsageResponse apiUsage = projectService.getSpecificProjectModelApiUsage(projectId, modelId);
-
-            // 프로젝트 소유자의 클라이언트에게만 알림 전송
-            sendToUserEmitters(ownerId, "API_USAGE_UPDATE", apiUsage);
-        } catch (Exception e) {
-            log.error("API 사용량 업데이트 알림 실패: {}", e.getMessage());
-        }
+        return connection.getEmitter();
     }
 
     /**
-     * 특정 사용자의 이미터에게만 이벤트 전송
+     * 초기 API 사용량 데이터를 전송 (사용량 변경 이벤트가 없었으면 캐시된 스냅샷 재사용)
      */
-    private <T> void sendToUserEmitters(Long userId, String eventName, T data) {
-        if (userId == null) {
-            log.warn("사용자 ID가 null, 이벤트 전송 건너뜀");
-            return;
-        }
-
-        // 해당 사용자 ID를 가진 이미터 찾기
-        String userPrefix = "api-usage-sse-" + userId + "-";
-        boolean sent = false;
-
-        for (Map.Entry<String, SseEmitter> entry : emitters.entrySet()) {
-            String emitterId = entry.getKey();
-            if (emitterId.startsWith(userPrefix)) {
-                try {
-                    entry.getValue().send(SseEmitter.event()
-                            .name(eventName)
-                            .data(data));
-                    sent = true;
-                    log.debug("API 사용량 이벤트 {} 전송 성공: {}", eventName, emitterId);
-                } catch (IOException e) {
-                    log.error("이벤트 전송 실패: {}", emitterId, e);
-                    emitters.remove(emitterId);
-                }
-            }
-        }
-
-        if (!sent) {
-            log.info("사용자 {}에게 전송할 이미터 없음", userId);
-        }
+    private void sendInitialStatus(SseConnection connection) {
+        String apiUsage = sseEmitterRegistry.loadSnapshot(Topic.API_USAGE, connection.getUserId());
+        sseEmitterRegistry.sendSnapshot(connection, "INIT", apiUsage);
     }
 
     /**
-     * 고유한 이미터 ID 생성 (사용자 ID 포함)
+     * 사용자의 이미터에게 바뀐 모델의 누적 사용량 전송 - 인증 없이 사용 가능 (ApiUsageUpdateNotifier가 호출)
+     * 연결이 다른 노드에 있어도 받도록 이벤트 버스로 발행, 알림 스레드에서 조회용 트랜잭션(커넥션)은 열지 않음
      */
-    private String generateEmitterId(Long userId) {
-        return "api-usage-sse-" + userId + "-" + System.currentTimeMillis();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void sendApiUsageUpdate(Long userId, ApiUsageUpdateResponse update) {
+        sseEventBus.publish(Topic.API_USAGE, userId, "API_USAGE_UPDATE", update, null);
     }
-}
\ No newline at end of file
+}
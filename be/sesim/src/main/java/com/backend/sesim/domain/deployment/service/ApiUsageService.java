@@ -1,15 +1,13 @@
 package com.backend.sesim.domain.deployment.service;
 
-import java.text.SimpleDateFormat;
 import java.time.LocalDate;
-import java.time.LocalTime;
-import java.time.ZoneId;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -17,7 +15,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.backend.sesim.domain.auth.exception.AuthErrorCode;
+import com.backend.sesim.domain.deployment.dto.request.ApiUsageBulkUpdateRequest;
 import com.backend.sesim.domain.deployment.dto.request.ApiUsageIntervalRequest;
+import com.backend.sesim.domain.deployment.dto.internal.ModelInfoRate;
+import com.backend.sesim.domain.deployment.dto.internal.PendingApiUsage;
+import com.backend.sesim.domain.deployment.dto.internal.UsageTotal;
 import com.backend.sesim.domain.deployment.dto.request.ApiUsageUpdateRequest;
 import com.backend.sesim.domain.deployment.dto.response.ApiUsageInitResponse;
 import com.backend.sesim.domain.deployment.dto.response.ApiUsageIntervalAllAllResponse;
@@ -31,13 +33,15 @@ import com.backend.sesim.domain.deployment.dto.response.ApiUsageIntervalResponse
 import com.backend.sesim.domain.deployment.dto.response.ApiUsageIntervalResponse.ProjectIntervalMonthApiUsageDto;
 import com.backend.sesim.domain.deployment.dto.response.ApiUsageIntervalSpecificAllResponse;
 import com.backend.sesim.domain.deployment.dto.response.ApiUsageIntervalSpecificSpecificResponse;
-import com.backend.sesim.domain.deployment.entity.ApiUsage;
+import com.backend.sesim.domain.deployment.entity.ApiUsageDailyRollup;
+import com.backend.sesim.domain.deployment.entity.ApiUsageMonthlyRollup;
 import com.backend.sesim.domain.deployment.entity.Project;
 import com.backend.sesim.domain.deployment.entity.ProjectModelInformation;
 import com.backend.sesim.domain.deployment.exception.DeploymentErrorCode;
-import com.backend.sesim.domain.deployment.repository.ApiUsageRepository;
-import com.backend.sesim.domain.deployment.repository.ProjectModelInfoRepository;
+import com.backend.sesim.domain.deployment.repository.ApiUsageDailyRollupRepository;
+import com.backend.sesim.domain.deployment.repository.ApiUsageMonthlyRollupRepository;
 import com.backend.sesim.domain.deployment.repository.ProjectRepository;
+import com.backend.sesim.domain.deployment.util.UsageAccumulator;
 import com.backend.sesim.domain.iam.entity.RoleArn;
 import com.backend.sesim.domain.iam.repository.RoleArnRepository;
 import com.backend.sesim.domain.resourcemanagement.entity.Model;
@@ -54,146 +58,144 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ApiUsageService {
 
-	private final ApiUsageRepository apiUsageRepository;
-	private final ProjectModelInfoRepository projectModelInfoRepository;
-	private final ApiUsageSSEService apiUsageSSEService; // 별도의 SSE 서비스 주입
+	private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+	private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+	// 최대 조회 기간 (약 10년) - 누적기가 기간 일수만큼 배열을 잡으므로 상한을 둠
+	private static final long MAX_PERIOD_DAYS = 3660;
+
+	private final ApiUsageDailyRollupRepository apiUsageDailyRollupRepository;
+	private final ApiUsageMonthlyRollupRepository apiUsageMonthlyRollupRepository;
+	private final ApiUsageIngestBuffer apiUsageIngestBuffer; // write-behind 적재 버퍼
+	private final ProjectModelInfoCache projectModelInfoCache;
 	private final SecurityUtils securityUtils;
 	private final RoleArnRepository roleArnRepository;
 	private final UserRepository userRepository;
 	private final ProjectRepository projectRepository;
 
 	/**
-	 * API 사용량 업데이트 또는 새로 생성
+	 * API 사용량 보고를 write-behind 버퍼에 적재
+	 * 실제 DB 반영과 SSE 알림은 ApiUsageIngestBuffer가 주기적으로 배치 처리
 	 */
-	@Transactional
 	public void updateApiUsage(ApiUsageUpdateRequest request) {
 		// DTO 객체에서 필드 추출
 		Long projectId = request.getProjectId();
 		Long modelId = request.getModelId();
-		String apiName = request.getApiName();
-		int totalRequestCount = request.getTotalRequestCount();
-		int totalSeconds = request.getTotalSeconds();
-		Date intervalDate = Date.from((request.getIntervalDate()).atStartOfDay(ZoneId.systemDefault()).toInstant());
-
-		// 프로젝트 ID와 모델 ID로 ProjectModelInformation 찾기
-		ProjectModelInformation modelInfo = projectModelInfoRepository.findByProjectIdAndModelId(projectId, modelId)
-			.orElseThrow(() -> {
-				log.error("프로젝트 ID: {}와 모델 ID: {}에 해당하는 정보를 찾을 수 없음", projectId, modelId);
-				return new GlobalException(DeploymentErrorCode.MODEL_INFO_NOT_FOUND);
-			});
-
-		// 모델 정보 ID와 API 이름으로 기존 사용량 조회
-		Long informationId = modelInfo.getId();
-		boolean isUpdated = false;
-
-		// Optional<ApiUsage> existingUsage = apiUsageRepository.findByInformationIdAndApiName(informationId, apiName);
-
-		// 비관적 락을 사용한 조회
-		Optional<ApiUsage> existingUsage = apiUsageRepository.findByInfoIdAndApiNameAndIntervalDateWithLock(
-			informationId, apiName, intervalDate);
-
-		// 2. 있으면 업데이트
-		if (existingUsage.isPresent()) {
-			ApiUsage usage = existingUsage.get();
-
-			if (usage.getTotalRequestCount() != totalRequestCount || usage.getTotalSeconds() != totalSeconds) {
-				usage.updateCounts(totalRequestCount, totalSeconds);
-				apiUsageRepository.save(usage);
-				isUpdated = true;
-
-				log.info("API 사용량 덮어쓰기: projectId={}, modelId={}, apiName={}, intervalDate={}, 요청={}, 시간={}, 간격={}",
-					projectId, modelId, apiName, intervalDate, totalRequestCount, totalSeconds, intervalDate);
-			}
-		} else {
-			// 3. 없으면 새로 생성
-			ApiUsage newUsage = ApiUsage.builder()
-				.information(modelInfo)
-				.apiName(apiName)
-				.totalRequestCount(totalRequestCount)
-				.totalSeconds(totalSeconds)
-				.intervalDate(intervalDate)
-				.build();
-			apiUsageRepository.save(newUsage);
-			isUpdated = true;
-
-			log.info("API 사용량 새로 생성: projectId={}, modelId={}, apiName={}, intervalDate={}, 요청={}, 시간={}, 간격={}",
-				projectId, modelId, apiName, intervalDate, totalRequestCount, totalSeconds, intervalDate);
+
+		// 프로젝트 ID와 모델 ID로 모델 정보 ID 찾기 (캐시 적중 시 DB 조회 없음)
+		ModelInfoRate modelInfo = projectModelInfoCache.get(projectId, modelId);
+
+		apiUsageIngestBuffer.offer(PendingApiUsage.builder()
+			.informationId(modelInfo.getInformationId())
+			.projectId(projectId)
+			.modelId(modelId)
+			.apiName(request.getApiName())
+			.totalRequestCount(request.getTotalRequestCount())
+			.totalSeconds(request.getTotalSeconds())
+			.intervalDate(request.getIntervalDate())
+			.ownerId(modelInfo.getOwnerId())
+			.hourlyRate(modelInfo.getHourlyRate())
+			.build());
+
+		log.debug("API 사용량 버퍼 적재: projectId={}, modelId={}, apiName={}, intervalDate={}, 요청={}, 시간={}",
+			projectId, modelId, request.getApiName(), request.getIntervalDate(), request.getTotalRequestCount(),
+			request.getTotalSeconds());
+	}
+
+	/**
+	 * 한 프로젝트의 여러 사용량 보고를 한 트랜잭션에서 일괄 반영
+	 * 모델 정보는 캐시(없으면 한 번의 조회)로 해석하고, INSERT ... ON DUPLICATE KEY UPDATE 배치로 저장
+	 * 버퍼에 남은 같은 키의 이전 값이 나중에 덮어쓰지 않도록 버퍼의 flush 잠금 안에서 반영
+	 */
+	public void updateApiUsageBulk(ApiUsageBulkUpdateRequest request) {
+		Long projectId = request.getProjectId();
+		List<ApiUsageBulkUpdateRequest.UsageRow> rows = request.getUsages();
+		if (rows == null || rows.isEmpty()) {
+			return;
 		}
 
-		// 변경사항이 있는 경우에만 SSE 알림 전송
-		if (isUpdated) {
-			// 업데이트 알림(변경)
-			apiUsageSSEService.notifyApiUsageUpdateByProjectAndModel(projectId, modelId);
+		// 프로젝트의 모델 정보를 한 번에 해석 (modelId -> informationId)
+		Map<Long, ModelInfoRate> modelInfos = projectModelInfoCache.getAll(projectId,
+			rows.stream().map(ApiUsageBulkUpdateRequest.UsageRow::getModelId).collect(Collectors.toSet()));
+
+		List<PendingApiUsage> usages = new ArrayList<>(rows.size());
+		for (ApiUsageBulkUpdateRequest.UsageRow row : rows) {
+			ModelInfoRate modelInfo = modelInfos.get(row.getModelId());
+			usages.add(PendingApiUsage.builder()
+				.informationId(modelInfo.getInformationId())
+				.projectId(projectId)
+				.modelId(row.getModelId())
+				.apiName(row.getApiName())
+				.totalRequestCount(row.getTotalRequestCount())
+				.totalSeconds(row.getTotalSeconds())
+				.intervalDate(row.getIntervalDate())
+				.ownerId(modelInfo.getOwnerId())
+				.hourlyRate(modelInfo.getHourlyRate())
+				.build());
 		}
+
+		// 반영 후 바뀐 항목은 사용자별로 모아 알림 스레드에서 전송
+		int changed = apiUsageIngestBuffer.writeThrough(usages);
+		log.info("API 사용량 일괄 반영: projectId={}, 전체={}, 변경={}", projectId, usages.size(), changed);
 	}
 
-	@Transactional
+	@Transactional(readOnly = true)
 	public ApiUsageIntervalResponse getIntervalApiUsage(ApiUsageIntervalRequest request) {
+		validatePeriod(request);
 		Long userId = securityUtils.getCurrentUsersId();
 		User user = userRepository.findById(userId)
 			.orElseThrow(() -> new GlobalException(AuthErrorCode.USER_NOT_FOUND));
 
 		List<RoleArn> roleArns = roleArnRepository.findAllByUser(user);
-		List<Project> projects = projectRepository.findAllByRoleArnIn(roleArns);
+		List<Project> projects = projectRepository.findAllWithModelInformationsByRoleArnIn(roleArns);
+		List<Long> projectIds = projects.stream().map(Project::getId).toList();
+
+		// 요청 단위 요금표 (모델 정보 ID -> 시간당 요금), 모델/스펙은 위 조회에서 이미 로딩됨
+		Map<Long, Double> hourlyRates = projects.stream()
+			.flatMap(p -> p.getModelInformations().stream())
+			.collect(Collectors.toMap(ProjectModelInformation::getId,
+				info -> info.getModel().getModelPricePerHour() + info.getSpec().getSpecPricePerHour()));
+
+		// 프로젝트별 누적기에 모델 정보 단위로 한 번에 누적
+		Map<Long, UsageAccumulator> accumulators = new HashMap<>();
+		for (Long projectId : projectIds) {
+			accumulators.put(projectId, new UsageAccumulator(request.getStartTime(), request.getEndTime()));
+		}
+		for (ApiUsageDailyRollup usage : apiUsageDailyRollupRepository.findByProjectIdInAndUsageDateBetween(
+			projectIds, request.getStartTime(), request.getEndTime())) {
+			accumulators.get(usage.getProjectId()).add(usage.getUsageDate(), usage.getInformationId(),
+				usage.getTotalRequestCount(), usage.getTotalSeconds(), usage.getTotalCost());
+		}
 
 		List<ProjectApiUsageDto> projectDtos = new ArrayList<>();
 
 		for (Project project : projects) {
-			int projectTotalRequestCount = 0;
-			int projectTotalSeconds = 0;
-			double projectTotalCost = 0;
+			UsageAccumulator accumulator = accumulators.get(project.getId());
+			Map<Long, Integer> groups = groupIndexes(accumulator);
 
 			List<ModelApiUsageDto> modelDtos = new ArrayList<>();
-			List<ModelIntervalDayApiUsageDto> allDayUsages = new ArrayList<>();
-			List<ModelIntervalMonthApiUsageDto> allMonthUsages = new ArrayList<>();
-
-			Date startDate = Date.from(request.getStartTime().atStartOfDay(ZoneId.systemDefault()).toInstant());
-			Date endDate = Date.from(
-				request.getEndTime().atTime(LocalTime.MAX).atZone(ZoneId.systemDefault()).toInstant());
-
 			for (ProjectModelInformation info : project.getModelInformations()) {
-				Long infoId = info.getId();
-
-				List<ApiUsage> usages = apiUsageRepository.findByInfoIdAndIntervalDateBetween(
-					infoId,
-					startDate,
-					endDate
-				);
-
-				int totalReq = usages.stream().mapToInt(ApiUsage::getTotalRequestCount).sum();
-				int totalSec = usages.stream().mapToInt(ApiUsage::getTotalSeconds).sum();
-				double hourlyRate = info.getModel().getModelPricePerHour() + info.getSpec().getSpecPricePerHour();
-				double totalCost = (totalSec / 3600.0) * hourlyRate;
-
-				List<ModelIntervalDayApiUsageDto> modelDayList = groupByDay(usages, hourlyRate);
-				List<ModelIntervalMonthApiUsageDto> modelMonthList = groupByMonth(usages, hourlyRate);
-				allDayUsages.addAll(modelDayList);
-				allMonthUsages.addAll(modelMonthList);
+				Integer group = groups.get(info.getId());
 
 				modelDtos.add(ModelApiUsageDto.builder()
 					.modelId(info.getModel().getId())
 					.modelName(info.getModel().getName())
-					.totalRequestCount(totalReq)
-					.totalSeconds(totalSec)
-					.hourlyRate(hourlyRate)
-					.totalCost(totalCost)
-					.intervalDayModels(modelDayList)
-					.intervalMonthModels(modelMonthList)
+					.totalRequestCount(group == null ? 0 : accumulator.groupRequests(group))
+					.totalSeconds(group == null ? 0 : accumulator.groupSeconds(group))
+					.hourlyRate(hourlyRates.get(info.getId()))
+					.totalCost(group == null ? 0 : accumulator.groupCost(group))
+					.intervalDayModels(group == null ? new ArrayList<>() : groupByDay(accumulator, group))
+					.intervalMonthModels(group == null ? new ArrayList<>() : groupByMonth(accumulator, group))
 					.build());
-
-				projectTotalRequestCount += totalReq;
-				projectTotalSeconds += totalSec;
-				projectTotalCost += totalCost;
 			}
 
 			projectDtos.add(ProjectApiUsageDto.builder()
 				.projectId(project.getId())
 				.projectName(project.getName())
-				.projectTotalRequestCount(projectTotalRequestCount)
-				.projectTotalSeconds(projectTotalSeconds)
-				.projectTotalCost(projectTotalCost)
-				.intervalDayProjects(groupProjectByDay(allDayUsages))
-				.intervalMonthProjects(groupProjectByMonth(allMonthUsages))
+				.projectTotalRequestCount(accumulator.totalRequests())
+				.projectTotalSeconds(accumulator.totalSeconds())
+				.projectTotalCost(accumulator.totalCost())
+				.intervalDayProjects(groupProjectByDay(accumulator))
+				.intervalMonthProjects(groupProjectByMonth(accumulator))
 				.models(modelDtos)
 				.build());
 		}
@@ -204,86 +206,80 @@ public class ApiUsageService {
 			.build();
 	}
 
-	private List<ModelIntervalDayApiUsageDto> groupByDay(List<ApiUsage> usages, double hourlyRate) {
-		return usages.stream()
-			.collect(Collectors.groupingBy(
-				a -> new SimpleDateFormat("yyyy-MM-dd").format(a.getIntervalDate()),
-				Collectors.reducing(
-					new int[] {0, 0},
-					a -> new int[] {a.getTotalRequestCount(), a.getTotalSeconds()},
-					(a, b) -> new int[] {a[0] + b[0], a[1] + b[1]}
-				)
-			))
-			.entrySet().stream()
-			.map(e -> new ModelIntervalDayApiUsageDto(
-				e.getKey(),
-				e.getValue()[0],
-				e.getValue()[1],
-				(e.getValue()[1] / 3600.0) * hourlyRate
-			))
-			.sorted((a, b) -> b.getDate().compareTo(a.getDate()))
-			.collect(Collectors.toList());
+	static Map<Long, Integer> groupIndexes(UsageAccumulator accumulator) {
+		Map<Long, Integer> groups = new HashMap<>();
+		for (int group = 0; group < accumulator.groupCount(); group++) {
+			groups.put(accumulator.groupId(group), group);
+		}
+		return groups;
 	}
 
-	private List<ModelIntervalMonthApiUsageDto> groupByMonth(List<ApiUsage> usages, double hourlyRate) {
-		return usages.stream()
-			.collect(Collectors.groupingBy(
-				a -> new SimpleDateFormat("yyyy-MM").format(a.getIntervalDate()),
-				Collectors.reducing(
-					new int[] {0, 0},
-					a -> new int[] {a.getTotalRequestCount(), a.getTotalSeconds()},
-					(a, b) -> new int[] {a[0] + b[0], a[1] + b[1]}
-				)
-			))
-			.entrySet().stream()
-			.map(e -> new ModelIntervalMonthApiUsageDto(
-				e.getKey(),
-				e.getValue()[0],
-				e.getValue()[1],
-				(e.getValue()[1] / 3600.0) * hourlyRate
-			))
-			.sorted((a, b) -> b.getDate().compareTo(a.getDate()))
-			.collect(Collectors.toList());
+	// 아래 변환은 모두 누적기 배열을 최신순으로 읽기만 함 (벤치마크에서 직접 호출하도록 패키지 범위)
+	static List<ModelIntervalDayApiUsageDto> groupByDay(UsageAccumulator accumulator, int group) {
+		List<ModelIntervalDayApiUsageDto> days = new ArrayList<>();
+		for (int day = accumulator.dayCount() - 1; day >= 0; day--) {
+			if (accumulator.hasCell(group, day)) {
+				days.add(new ModelIntervalDayApiUsageDto(
+					accumulator.date(day).format(DAY_FORMAT),
+					accumulator.requests(group, day),
+					accumulator.seconds(group, day),
+					accumulator.cost(group, day)));
+			}
+		}
+		return days;
 	}
 
-	private List<ProjectIntervalDayApiUsageDto> groupProjectByDay(List<ModelIntervalDayApiUsageDto> flatModelList) {
-		return flatModelList.stream()
-			.collect(Collectors.groupingBy(ModelIntervalDayApiUsageDto::getDate))
-			.entrySet().stream()
-			.map(e -> {
-				int reqSum = e.getValue().stream().mapToInt(ModelIntervalDayApiUsageDto::getIntervalRequestCount).sum();
-				int secSum = e.getValue().stream().mapToInt(ModelIntervalDayApiUsageDto::getIntervalSeconds).sum();
-				double costSum = e.getValue().stream().mapToDouble(ModelIntervalDayApiUsageDto::getIntervalCost).sum();
-				return new ProjectIntervalDayApiUsageDto(e.getKey(), reqSum, secSum, costSum);
-			})
-			.sorted((a, b) -> b.getDate().compareTo(a.getDate()))
-			.collect(Collectors.toList());
+	static List<ModelIntervalMonthApiUsageDto> groupByMonth(UsageAccumulator accumulator, int group) {
+		List<ModelIntervalMonthApiUsageDto> months = new ArrayList<>();
+		for (YearMonth month : accumulator.monthsDescending()) {
+			if (accumulator.hasMonthCell(group, month)) {
+				months.add(new ModelIntervalMonthApiUsageDto(
+					month.format(MONTH_FORMAT),
+					accumulator.monthRequests(group, month),
+					accumulator.monthSeconds(group, month),
+					accumulator.monthCost(group, month)));
+			}
+		}
+		return months;
 	}
 
-	private List<ProjectIntervalMonthApiUsageDto> groupProjectByMonth(
-		List<ModelIntervalMonthApiUsageDto> flatModelList) {
-		return flatModelList.stream()
-			.collect(Collectors.groupingBy(ModelIntervalMonthApiUsageDto::getDate))
-			.entrySet().stream()
-			.map(e -> {
-				int reqSum = e.getValue()
-					.stream()
-					.mapToInt(ModelIntervalMonthApiUsageDto::getIntervalRequestCount)
-					.sum();
-				int secSum = e.getValue().stream().mapToInt(ModelIntervalMonthApiUsageDto::getIntervalSeconds).sum();
-				double costSum = e.getValue()
-					.stream()
-					.mapToDouble(ModelIntervalMonthApiUsageDto::getIntervalCost)
-					.sum();
-				return new ProjectIntervalMonthApiUsageDto(e.getKey(), reqSum, secSum, costSum);
-			})
-			.sorted((a, b) -> b.getDate().compareTo(a.getDate()))
-			.collect(Collectors.toList());
+	static List<ProjectIntervalDayApiUsageDto> groupProjectByDay(UsageAccumulator accumulator) {
+		List<ProjectIntervalDayApiUsageDto> days = new ArrayList<>();
+		for (int day = accumulator.dayCount() - 1; day >= 0; day--) {
+			if (accumulator.hasDay(day)) {
+				days.add(new ProjectIntervalDayApiUsageDto(
+					accumulator.date(day).format(DAY_FORMAT),
+					accumulator.dayRequests(day),
+					accumulator.daySeconds(day),
+					accumulator.dayCost(day)));
+			}
+		}
+		return days;
+	}
+
+	static List<ProjectIntervalMonthApiUsageDto> groupProjectByMonth(UsageAccumulator accumulator) {
+		List<ProjectIntervalMonthApiUsageDto> months = new ArrayList<>();
+		for (YearMonth month : accumulator.monthsDescending()) {
+			if (!accumulator.hasMonth(month)) {
+				continue;
+			}
+			int requests = 0;
+			int seconds = 0;
+			double cost = 0;
+			for (int group = 0; group < accumulator.groupCount(); group++) {
+				requests += accumulator.monthRequests(group, month);
+				seconds += accumulator.monthSeconds(group, month);
+				cost += accumulator.monthCost(group, month);
+			}
+			months.add(new ProjectIntervalMonthApiUsageDto(month.format(MONTH_FORMAT), requests, seconds, cost));
+		}
+		return months;
 	}
 
 	@Transactional(readOnly = true)
 	public ApiUsageIntervalSpecificSpecificResponse getIntervalSpecificSpecificApiUsage(
 		ApiUsageIntervalRequest request) {
+		validatePeriod(request);
 		Long projectId = request.getProjectId();
 		LocalDate startDate = request.getStartTime();
 		LocalDate endDate = request.getEndTime();
@@ -291,134 +287,69 @@ public class ApiUsageService {
 		LocalDate lastMonthStartDate = startDate.minusMonths(1);
 		LocalDate lastMonthEndDate = endDate.minusMonths(1);
 
-		Date start = Date.from(startDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
-		Date end = Date.from(endDate.atTime(LocalTime.MAX).atZone(ZoneId.systemDefault()).toInstant());
-		Date lastStart = Date.from(lastMonthStartDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
-		Date lastEnd = Date.from(lastMonthEndDate.atTime(LocalTime.MAX).atZone(ZoneId.systemDefault()).toInstant());
-
-		List<ApiUsage> currentUsages = apiUsageRepository.findByProjectIdAndDateRange(projectId, start, end);
-		List<ApiUsage> lastUsages = apiUsageRepository.findByProjectIdAndDateRange(projectId, lastStart, lastEnd);
-
-		// 요약
-		int curTotalRequests = currentUsages.stream().mapToInt(ApiUsage::getTotalRequestCount).sum();
-		int curTotalSeconds = currentUsages.stream().mapToInt(ApiUsage::getTotalSeconds).sum();
-		double curTotalCost = currentUsages.stream().mapToDouble(u -> {
-			double rate = u.getInformation().getModel().getModelPricePerHour()
-				+ u.getInformation().getSpec().getSpecPricePerHour();
-			return (u.getTotalSeconds() / 3600.0) * rate;
-		}).sum();
-
-		int lastTotalRequests = lastUsages.stream().mapToInt(ApiUsage::getTotalRequestCount).sum();
-		int lastTotalSeconds = lastUsages.stream().mapToInt(ApiUsage::getTotalSeconds).sum();
-		double lastTotalCost = lastUsages.stream().mapToDouble(u -> {
-			double rate = u.getInformation().getModel().getModelPricePerHour()
-				+ u.getInformation().getSpec().getSpecPricePerHour();
-			return (u.getTotalSeconds() / 3600.0) * rate;
-		}).sum();
+		// (날짜, 모델)별 합계는 DB에서 그룹핑, 지난 기간은 합계 한 줄만 조회
+		UsageAccumulator current = UsageAccumulator.of(startDate, endDate,
+			apiUsageDailyRollupRepository.sumByProjectGroupByDateAndModel(projectId, startDate, endDate));
+		UsageTotal lastTotal = apiUsageDailyRollupRepository.sumTotalByProject(
+			projectId, lastMonthStartDate, lastMonthEndDate);
 
 		// 모델별 집계
-		Map<Long, List<ApiUsage>> modelGroup = currentUsages.stream()
-			.collect(Collectors.groupingBy(u -> u.getInformation().getModel().getId()));
-
 		List<ApiUsageIntervalSpecificSpecificResponse.ModelCountDto> modelRequestCounts = new ArrayList<>();
 		List<ApiUsageIntervalSpecificSpecificResponse.ModelCostDto> modelCosts = new ArrayList<>();
 		List<ApiUsageIntervalSpecificSpecificResponse.ModelSecondDto> modelSeconds = new ArrayList<>();
 
-		for (Map.Entry<Long, List<ApiUsage>> entry : modelGroup.entrySet()) {
-			Long modelId = entry.getKey();
-			List<ApiUsage> usageList = entry.getValue();
-
-			int totalReq = usageList.stream().mapToInt(ApiUsage::getTotalRequestCount).sum();
-			int totalSec = usageList.stream().mapToInt(ApiUsage::getTotalSeconds).sum();
-
-			ProjectModelInformation info = usageList.get(0).getInformation();
-			double hourlyRate = info.getModel().getModelPricePerHour() + info.getSpec().getSpecPricePerHour();
-			double totalCost = (totalSec / 3600.0) * hourlyRate;
-
-			modelRequestCounts.add(new ApiUsageIntervalSpecificSpecificResponse.ModelCountDto(modelId, totalReq));
-			modelSeconds.add(new ApiUsageIntervalSpecificSpecificResponse.ModelSecondDto(modelId, totalSec));
-			modelCosts.add(new ApiUsageIntervalSpecificSpecificResponse.ModelCostDto(modelId, totalCost));
+		for (int group = 0; group < current.groupCount(); group++) {
+			Long modelId = current.groupId(group);
+			modelRequestCounts.add(new ApiUsageIntervalSpecificSpecificResponse.ModelCountDto(modelId,
+				current.groupRequests(group)));
+			modelSeconds.add(new ApiUsageIntervalSpecificSpecificResponse.ModelSecondDto(modelId,
+				current.groupSeconds(group)));
+			modelCosts.add(new ApiUsageIntervalSpecificSpecificResponse.ModelCostDto(modelId,
+				current.groupCost(group)));
 		}
 
-		// 일별 집계
-		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-		Map<LocalDate, List<ApiUsage>> dailyGroup = currentUsages.stream()
-			.collect(Collectors.groupingBy(
-				u -> u.getIntervalDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate()));
-
+		// 일별 집계 (최신순)
 		List<ApiUsageIntervalSpecificSpecificResponse.DailyModelRequestDto> dailyModelRequests = new ArrayList<>();
 		List<ApiUsageIntervalSpecificSpecificResponse.DailyModelCostDto> dailyModelCosts = new ArrayList<>();
 		List<ApiUsageIntervalSpecificSpecificResponse.DailyModelSecondDto> dailyModelSeconds = new ArrayList<>();
 
-		dailyGroup.entrySet().stream()
-			.sorted(Map.Entry.<LocalDate, List<ApiUsage>>comparingByKey().reversed()) // 최신순 정렬
-			.forEach(entry -> {
-				LocalDate date = entry.getKey();
-				String dateStr = date.format(formatter);
-				List<ApiUsage> usageList = entry.getValue();
-
-				int totalReq = usageList.stream().mapToInt(ApiUsage::getTotalRequestCount).sum();
-				int totalSec = usageList.stream().mapToInt(ApiUsage::getTotalSeconds).sum();
-				double totalCost = usageList.stream().mapToDouble(u -> {
-					double rate = u.getInformation().getModel().getModelPricePerHour()
-						+ u.getInformation().getSpec().getSpecPricePerHour();
-					return (u.getTotalSeconds() / 3600.0) * rate;
-				}).sum();
-
-				Map<Long, Integer> modelRequestMap = usageList.stream()
-					.collect(Collectors.groupingBy(
-						u -> u.getInformation().getModel().getId(),
-						Collectors.summingInt(ApiUsage::getTotalRequestCount)
-					));
-
-				Map<Long, Integer> modelSecondMap = usageList.stream()
-					.collect(Collectors.groupingBy(
-						u -> u.getInformation().getModel().getId(),
-						Collectors.summingInt(ApiUsage::getTotalSeconds)
-					));
-
-				Map<Long, Double> modelCostMap = usageList.stream()
-					.collect(Collectors.groupingBy(
-						u -> u.getInformation().getModel().getId(),
-						Collectors.summingDouble(u -> {
-							double rate = u.getInformation().getModel().getModelPricePerHour()
-								+ u.getInformation().getSpec().getSpecPricePerHour();
-							return (u.getTotalSeconds() / 3600.0) * rate;
-						})
-					));
-
-				List<ApiUsageIntervalSpecificSpecificResponse.ModelCountDto> modelRequestDtos = modelRequestMap.entrySet()
-					.stream()
-					.map(e -> new ApiUsageIntervalSpecificSpecificResponse.ModelCountDto(e.getKey(), e.getValue()))
-					.collect(Collectors.toList());
-
-				List<ApiUsageIntervalSpecificSpecificResponse.ModelSecondDto> modelSecondDtos = modelSecondMap.entrySet()
-					.stream()
-					.map(e -> new ApiUsageIntervalSpecificSpecificResponse.ModelSecondDto(e.getKey(), e.getValue()))
-					.collect(Collectors.toList());
-
-				List<ApiUsageIntervalSpecificSpecificResponse.ModelCostDto> modelCostDtos = modelCostMap.entrySet()
-					.stream()
-					.map(e -> new ApiUsageIntervalSpecificSpecificResponse.ModelCostDto(e.getKey(), e.getValue()))
-					.collect(Collectors.toList());
-
-				dailyModelRequests.add(
-					new ApiUsageIntervalSpecificSpecificResponse.DailyModelRequestDto(dateStr, totalReq,
-						modelRequestDtos));
-				dailyModelSeconds.add(
-					new ApiUsageIntervalSpecificSpecificResponse.DailyModelSecondDto(dateStr, totalSec,
-						modelSecondDtos));
-				dailyModelCosts.add(
-					new ApiUsageIntervalSpecificSpecificResponse.DailyModelCostDto(dateStr, totalCost, modelCostDtos));
-			});
+		for (int day = current.dayCount() - 1; day >= 0; day--) {
+			if (!current.hasDay(day)) {
+				continue;
+			}
+			String dateStr = current.date(day).format(DAY_FORMAT);
+
+			List<ApiUsageIntervalSpecificSpecificResponse.ModelCountDto> modelRequestDtos = new ArrayList<>();
+			List<ApiUsageIntervalSpecificSpecificResponse.ModelSecondDto> modelSecondDtos = new ArrayList<>();
+			List<ApiUsageIntervalSpecificSpecificResponse.ModelCostDto> modelCostDtos = new ArrayList<>();
+			for (int group = 0; group < current.groupCount(); group++) {
+				if (!current.hasCell(group, day)) {
+					continue;
+				}
+				Long modelId = current.groupId(group);
+				modelRequestDtos.add(new ApiUsageIntervalSpecificSpecificResponse.ModelCountDto(modelId,
+					current.requests(group, day)));
+				modelSecondDtos.add(new ApiUsageIntervalSpecificSpecificResponse.ModelSecondDto(modelId,
+					current.seconds(group, day)));
+				modelCostDtos.add(new ApiUsageIntervalSpecificSpecificResponse.ModelCostDto(modelId,
+					current.cost(group, day)));
+			}
+
+			dailyModelRequests.add(new ApiUsageIntervalSpecificSpecificResponse.DailyModelRequestDto(dateStr,
+				current.dayRequests(day), modelRequestDtos));
+			dailyModelSeconds.add(new ApiUsageIntervalSpecificSpecificResponse.DailyModelSecondDto(dateStr,
+				current.daySeconds(day), modelSecondDtos));
+			dailyModelCosts.add(new ApiUsageIntervalSpecificSpecificResponse.DailyModelCostDto(dateStr,
+				current.dayCost(day), modelCostDtos));
+		}
 
 		return ApiUsageIntervalSpecificSpecificResponse.builder()
-			.curMonthTotalCost(curTotalCost)
-			.lastMonthTotalCost(lastTotalCost)
-			.curMonthTotalRequests(curTotalRequests)
-			.lastMonthTotalRequests(lastTotalRequests)
-			.curMonthTotalSeconds(curTotalSeconds)
-			.lastMonthTotalSeconds(lastTotalSeconds)
+			.curMonthTotalCost(current.totalCost())
+			.lastMonthTotalCost(lastTotal.getCost())
+			.curMonthTotalRequests(current.totalRequests())
+			.lastMonthTotalRequests(lastTotal.getRequestCount())
+			.curMonthTotalSeconds(current.totalSeconds())
+			.lastMonthTotalSeconds(lastTotal.getSeconds())
 			.modelRequestCounts(modelRequestCounts)
 			.modelCosts(modelCosts)
 			.modelSeconds(modelSeconds)
@@ -430,6 +361,7 @@ public class ApiUsageService {
 
 	@Transactional(readOnly = true)
 	public ApiUsageIntervalAllSpecificResponse getIntervalAllSpecificApiUsage(ApiUsageIntervalRequest request) {
+		validatePeriod(request);
 
 		Long userId = securityUtils.getCurrentUsersId();
 		User user = userRepository.findById(userId)
@@ -445,109 +377,68 @@ public class ApiUsageService {
 		LocalDate lastMonthStart = startDate.minusMonths(1);
 		LocalDate lastMonthEnd = endDate.minusMonths(1);
 
-		Date start = Date.from(startDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
-		Date end = Date.from(endDate.atTime(LocalTime.MAX).atZone(ZoneId.systemDefault()).toInstant());
-		Date lastStart = Date.from(lastMonthStart.atStartOfDay(ZoneId.systemDefault()).toInstant());
-		Date lastEnd = Date.from(lastMonthEnd.atTime(LocalTime.MAX).atZone(ZoneId.systemDefault()).toInstant());
-
-		List<ApiUsage> currentUsages = apiUsageRepository.findByProjectIdsAndDateRange(projectIds, start, end);
-		List<ApiUsage> lastUsages = apiUsageRepository.findByProjectIdsAndDateRange(projectIds, lastStart, lastEnd);
-
-		// 전체 요약
-		int curTotalRequests = currentUsages.stream().mapToInt(ApiUsage::getTotalRequestCount).sum();
-		int curTotalSeconds = currentUsages.stream().mapToInt(ApiUsage::getTotalSeconds).sum();
-		double curTotalCost = currentUsages.stream().mapToDouble(u -> getUsageCost(u)).sum();
-
-		int lastTotalRequests = lastUsages.stream().mapToInt(ApiUsage::getTotalRequestCount).sum();
-		int lastTotalSeconds = lastUsages.stream().mapToInt(ApiUsage::getTotalSeconds).sum();
-		double lastTotalCost = lastUsages.stream().mapToDouble(u -> getUsageCost(u)).sum();
+		UsageAccumulator current = UsageAccumulator.of(startDate, endDate,
+			apiUsageDailyRollupRepository.sumByProjectsGroupByDateAndProject(projectIds, startDate, endDate));
+		UsageTotal lastTotal = apiUsageDailyRollupRepository.sumTotalByProjects(
+			projectIds, lastMonthStart, lastMonthEnd);
 
 		// 프로젝트별 요약
-		Map<Long, List<ApiUsage>> projectGroup = currentUsages.stream()
-			.collect(Collectors.groupingBy(u -> u.getInformation().getProject().getId()));
-
 		List<ApiUsageIntervalAllSpecificResponse.ProjectRequestCountDto> projectRequestCounts = new ArrayList<>();
 		List<ApiUsageIntervalAllSpecificResponse.ProjectSecondDto> projectSeconds = new ArrayList<>();
 		List<ApiUsageIntervalAllSpecificResponse.ProjectCostDto> projectCosts = new ArrayList<>();
 
-		for (Map.Entry<Long, List<ApiUsage>> entry : projectGroup.entrySet()) {
-			Long projectId = entry.getKey();
-			List<ApiUsage> list = entry.getValue();
-
-			int totalReq = list.stream().mapToInt(ApiUsage::getTotalRequestCount).sum();
-			int totalSec = list.stream().mapToInt(ApiUsage::getTotalSeconds).sum();
-			double totalCost = list.stream().mapToDouble(this::getUsageCost).sum();
-
-			projectRequestCounts.add(
-				new ApiUsageIntervalAllSpecificResponse.ProjectRequestCountDto(projectId, totalReq));
-			projectSeconds.add(new ApiUsageIntervalAllSpecificResponse.ProjectSecondDto(projectId, totalSec));
-			projectCosts.add(new ApiUsageIntervalAllSpecificResponse.ProjectCostDto(projectId, totalCost));
+		for (int group = 0; group < current.groupCount(); group++) {
+			Long projectId = current.groupId(group);
+			projectRequestCounts.add(new ApiUsageIntervalAllSpecificResponse.ProjectRequestCountDto(projectId,
+				current.groupRequests(group)));
+			projectSeconds.add(new ApiUsageIntervalAllSpecificResponse.ProjectSecondDto(projectId,
+				current.groupSeconds(group)));
+			projectCosts.add(new ApiUsageIntervalAllSpecificResponse.ProjectCostDto(projectId,
+				current.groupCost(group)));
 		}
 
 		// 일별 요약 (최신순)
-		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-		Map<LocalDate, List<ApiUsage>> dailyGroup = currentUsages.stream()
-			.collect(Collectors.groupingBy(
-				u -> u.getIntervalDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate()));
-
 		List<ApiUsageIntervalAllSpecificResponse.DailyProjectRequestDto> dailyProjectRequests = new ArrayList<>();
 		List<ApiUsageIntervalAllSpecificResponse.DailyProjectSecondDto> dailyProjectSeconds = new ArrayList<>();
 		List<ApiUsageIntervalAllSpecificResponse.DailyProjectCostDto> dailyProjectCosts = new ArrayList<>();
 
-		dailyGroup.entrySet().stream()
-			.sorted(Map.Entry.<LocalDate, List<ApiUsage>>comparingByKey().reversed())
-			.forEach(entry -> {
-				LocalDate date = entry.getKey();
-				String dateStr = date.format(formatter);
-				List<ApiUsage> list = entry.getValue();
-
-				int totalReq = list.stream().mapToInt(ApiUsage::getTotalRequestCount).sum();
-				int totalSec = list.stream().mapToInt(ApiUsage::getTotalSeconds).sum();
-				double totalCost = list.stream().mapToDouble(this::getUsageCost).sum();
-
-				// 프로젝트별 그룹
-				Map<Long, List<ApiUsage>> dailyProjectGroup = list.stream()
-					.collect(Collectors.groupingBy(u -> u.getInformation().getProject().getId()));
-
-				List<ApiUsageIntervalAllSpecificResponse.ProjectRequestCountDto> dailyReqList = dailyProjectGroup.entrySet()
-					.stream()
-					.map(e -> new ApiUsageIntervalAllSpecificResponse.ProjectRequestCountDto(
-						e.getKey(),
-						e.getValue().stream().mapToInt(ApiUsage::getTotalRequestCount).sum()
-					))
-					.collect(Collectors.toList());
-
-				List<ApiUsageIntervalAllSpecificResponse.ProjectSecondDto> dailySecList = dailyProjectGroup.entrySet()
-					.stream()
-					.map(e -> new ApiUsageIntervalAllSpecificResponse.ProjectSecondDto(
-						e.getKey(),
-						e.getValue().stream().mapToInt(ApiUsage::getTotalSeconds).sum()
-					))
-					.collect(Collectors.toList());
-
-				List<ApiUsageIntervalAllSpecificResponse.ProjectCostDto> dailyCostList = dailyProjectGroup.entrySet()
-					.stream()
-					.map(e -> new ApiUsageIntervalAllSpecificResponse.ProjectCostDto(
-						e.getKey(),
-						e.getValue().stream().mapToDouble(this::getUsageCost).sum()
-					))
-					.collect(Collectors.toList());
-
-				dailyProjectRequests.add(
-					new ApiUsageIntervalAllSpecificResponse.DailyProjectRequestDto(dateStr, totalReq, dailyReqList));
-				dailyProjectSeconds.add(
-					new ApiUsageIntervalAllSpecificResponse.DailyProjectSecondDto(dateStr, totalSec, dailySecList));
-				dailyProjectCosts.add(
-					new ApiUsageIntervalAllSpecificResponse.DailyProjectCostDto(dateStr, totalCost, dailyCostList));
-			});
+		for (int day = current.dayCount() - 1; day >= 0; day--) {
+			if (!current.hasDay(day)) {
+				continue;
+			}
+			String dateStr = current.date(day).format(DAY_FORMAT);
+
+			List<ApiUsageIntervalAllSpecificResponse.ProjectRequestCountDto> dailyReqList = new ArrayList<>();
+			List<ApiUsageIntervalAllSpecificResponse.ProjectSecondDto> dailySecList = new ArrayList<>();
+			List<ApiUsageIntervalAllSpecificResponse.ProjectCostDto> dailyCostList = new ArrayList<>();
+			for (int group = 0; group < current.groupCount(); group++) {
+				if (!current.hasCell(group, day)) {
+					continue;
+				}
+				Long projectId = current.groupId(group);
+				dailyReqList.add(new ApiUsageIntervalAllSpecificResponse.ProjectRequestCountDto(projectId,
+					current.requests(group, day)));
+				dailySecList.add(new ApiUsageIntervalAllSpecificResponse.ProjectSecondDto(projectId,
+					current.seconds(group, day)));
+				dailyCostList.add(new ApiUsageIntervalAllSpecificResponse.ProjectCostDto(projectId,
+					current.cost(group, day)));
+			}
+
+			dailyProjectRequests.add(new ApiUsageIntervalAllSpecificResponse.DailyProjectRequestDto(dateStr,
+				current.dayRequests(day), dailyReqList));
+			dailyProjectSeconds.add(new ApiUsageIntervalAllSpecificResponse.DailyProjectSecondDto(dateStr,
+				current.daySeconds(day), dailySecList));
+			dailyProjectCosts.add(new ApiUsageIntervalAllSpecificResponse.DailyProjectCostDto(dateStr,
+				current.dayCost(day), dailyCostList));
+		}
 
 		return ApiUsageIntervalAllSpecificResponse.builder()
-			.curMonthTotalCost(curTotalCost)
-			.lastMonthTotalCost(lastTotalCost)
-			.curMonthTotalRequests(curTotalRequests)
-			.lastMonthTotalRequests(lastTotalRequests)
-			.curMonthTotalSeconds(curTotalSeconds)
-			.lastMonthTotalSeconds(lastTotalSeconds)
+			.curMonthTotalCost(current.totalCost())
+			.lastMonthTotalCost(lastTotal.getCost())
+			.curMonthTotalRequests(current.totalRequests())
+			.lastMonthTotalRequests(lastTotal.getRequestCount())
+			.curMonthTotalSeconds(current.totalSeconds())
+			.lastMonthTotalSeconds(lastTotal.getSeconds())
 			.projectRequestCounts(projectRequestCounts)
 			.projectCosts(projectCosts)
 			.projectSeconds(projectSeconds)
@@ -559,6 +450,7 @@ public class ApiUsageService {
 
 	@Transactional(readOnly = true)
 	public ApiUsageIntervalAllAllResponse getIntervalAllAllApiUsage(ApiUsageIntervalRequest request) {
+		validatePeriod(request);
 		Long userId = securityUtils.getCurrentUsersId();
 		User user = userRepository.findById(userId)
 			.orElseThrow(() -> new GlobalException(AuthErrorCode.USER_NOT_FOUND));
@@ -567,61 +459,42 @@ public class ApiUsageService {
 		List<Project> projects = projectRepository.findAllByRoleArnIn(roleArns);
 		List<Long> projectIds = projects.stream().map(Project::getId).toList();
 
-		LocalDate startDate = request.getStartTime();
-		LocalDate endDate = request.getEndTime();
-		Date start = Date.from(startDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
-		Date end = Date.from(endDate.atTime(LocalTime.MAX).atZone(ZoneId.systemDefault()).toInstant());
-
-		List<ApiUsage> usages = apiUsageRepository.findByProjectIdsAndDateRange(projectIds, start, end);
-
-		// === 전체 요약 ===
-		double totalCost = usages.stream().mapToDouble(this::getUsageCost).sum();
-		int totalRequests = usages.stream().mapToInt(ApiUsage::getTotalRequestCount).sum();
-		int totalSeconds = usages.stream().mapToInt(ApiUsage::getTotalSeconds).sum();
-		int totalProjectCount = (int)projectIds.size();
+		UsageAccumulator usages = UsageAccumulator.of(request.getStartTime(), request.getEndTime(),
+			apiUsageDailyRollupRepository.sumByProjectsGroupByDateAndProject(
+				projectIds, request.getStartTime(), request.getEndTime()));
 
 		// === 프로젝트별 전체 비용 ===
-		Map<Long, List<ApiUsage>> projectGroup = usages.stream()
-			.collect(Collectors.groupingBy(u -> u.getInformation().getProject().getId()));
-
-		List<ApiUsageIntervalAllAllResponse.ProjectCostDto> projectCosts = projectGroup.entrySet().stream()
-			.map(e -> new ApiUsageIntervalAllAllResponse.ProjectCostDto(
-				e.getKey(),
-				e.getValue().stream().mapToDouble(this::getUsageCost).sum()
-			))
-			.collect(Collectors.toList());
-
-		// === 월별 + 프로젝트별 ===
-		DateTimeFormatter monthFmt = DateTimeFormatter.ofPattern("yyyy-MM");
-
-		Map<String, Map<Long, List<ApiUsage>>> monthProjectGroup = usages.stream()
-			.collect(Collectors.groupingBy(
-				u -> u.getIntervalDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate().format(monthFmt),
-				Collectors.groupingBy(u -> u.getInformation().getProject().getId())
-			));
+		List<ApiUsageIntervalAllAllResponse.ProjectCostDto> projectCosts = new ArrayList<>();
+		for (int group = 0; group < usages.groupCount(); group++) {
+			projectCosts.add(new ApiUsageIntervalAllAllResponse.ProjectCostDto(usages.groupId(group),
+				usages.groupCost(group)));
+		}
 
+		// === 월별 + 프로젝트별 (최신순) ===
 		List<ApiUsageIntervalAllAllResponse.MonthProjectCostDto> monthProjectCosts = new ArrayList<>();
 		List<ApiUsageIntervalAllAllResponse.MonthProjectRequestDto> monthProjectRequests = new ArrayList<>();
 		List<ApiUsageIntervalAllAllResponse.MonthProjectSecondDto> monthProjectSeconds = new ArrayList<>();
 
-		for (Map.Entry<String, Map<Long, List<ApiUsage>>> monthEntry : monthProjectGroup.entrySet()) {
-			String month = monthEntry.getKey();
-			Map<Long, List<ApiUsage>> projectMap = monthEntry.getValue();
+		for (YearMonth yearMonth : usages.monthsDescending()) {
+			if (!usages.hasMonth(yearMonth)) {
+				continue;
+			}
+			String month = yearMonth.format(MONTH_FORMAT);
 
 			List<ApiUsageIntervalAllAllResponse.ProjectCostDto> costList = new ArrayList<>();
 			List<ApiUsageIntervalAllAllResponse.ProjectRequestCountDto> requestList = new ArrayList<>();
 			List<ApiUsageIntervalAllAllResponse.ProjectSecondDto> secondList = new ArrayList<>();
-
-			for (Map.Entry<Long, List<ApiUsage>> entry : projectMap.entrySet()) {
-				Long projectId = entry.getKey();
-				List<ApiUsage> list = entry.getValue();
-
+			for (int group = 0; group < usages.groupCount(); group++) {
+				if (!usages.hasMonthCell(group, yearMonth)) {
+					continue;
+				}
+				Long projectId = usages.groupId(group);
 				costList.add(new ApiUsageIntervalAllAllResponse.ProjectCostDto(projectId,
-					list.stream().mapToDouble(this::getUsageCost).sum()));
+					usages.monthCost(group, yearMonth)));
 				requestList.add(new ApiUsageIntervalAllAllResponse.ProjectRequestCountDto(projectId,
-					list.stream().mapToInt(ApiUsage::getTotalRequestCount).sum()));
+					usages.monthRequests(group, yearMonth)));
 				secondList.add(new ApiUsageIntervalAllAllResponse.ProjectSecondDto(projectId,
-					list.stream().mapToInt(ApiUsage::getTotalSeconds).sum()));
+					usages.monthSeconds(group, yearMonth)));
 			}
 
 			monthProjectCosts.add(new ApiUsageIntervalAllAllResponse.MonthProjectCostDto(month, costList));
@@ -629,39 +502,28 @@ public class ApiUsageService {
 			monthProjectSeconds.add(new ApiUsageIntervalAllAllResponse.MonthProjectSecondDto(month, secondList));
 		}
 
-		// === 일자별 + 프로젝트별 비용 ===
-		DateTimeFormatter dayFmt = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
-		Map<LocalDate, Map<Long, List<ApiUsage>>> dayProjectGroup = usages.stream()
-			.collect(Collectors.groupingBy(
-				u -> u.getIntervalDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate(),
-				Collectors.groupingBy(u -> u.getInformation().getProject().getId())
-			));
-
-		List<ApiUsageIntervalAllAllResponse.DailyProjectCostDto> dailyProjectCosts = dayProjectGroup.entrySet().stream()
-			.sorted(Map.Entry.<LocalDate, Map<Long, List<ApiUsage>>>comparingByKey().reversed())
-			.map(entry -> {
-				String date = entry.getKey().format(dayFmt);
-				Map<Long, List<ApiUsage>> projectMap = entry.getValue();
-
-				double totalDayCost = projectMap.values().stream()
-					.flatMap(List::stream)
-					.mapToDouble(this::getUsageCost).sum();
-
-				List<ApiUsageIntervalAllAllResponse.ProjectCostDto> perProject = projectMap.entrySet().stream()
-					.map(e -> new ApiUsageIntervalAllAllResponse.ProjectCostDto(e.getKey(),
-						e.getValue().stream().mapToDouble(this::getUsageCost).sum()))
-					.collect(Collectors.toList());
-
-				return new ApiUsageIntervalAllAllResponse.DailyProjectCostDto(date, totalDayCost, perProject);
-			})
-			.collect(Collectors.toList());
+		// === 일자별 + 프로젝트별 비용 (최신순) ===
+		List<ApiUsageIntervalAllAllResponse.DailyProjectCostDto> dailyProjectCosts = new ArrayList<>();
+		for (int day = usages.dayCount() - 1; day >= 0; day--) {
+			if (!usages.hasDay(day)) {
+				continue;
+			}
+			List<ApiUsageIntervalAllAllResponse.ProjectCostDto> perProject = new ArrayList<>();
+			for (int group = 0; group < usages.groupCount(); group++) {
+				if (usages.hasCell(group, day)) {
+					perProject.add(new ApiUsageIntervalAllAllResponse.ProjectCostDto(usages.groupId(group),
+						usages.cost(group, day)));
+				}
+			}
+			dailyProjectCosts.add(new ApiUsageIntervalAllAllResponse.DailyProjectCostDto(
+				usages.date(day).format(DAY_FORMAT), usages.dayCost(day), perProject));
+		}
 
 		return ApiUsageIntervalAllAllResponse.builder()
-			.totalCost(totalCost)
-			.totalRequests(totalRequests)
-			.totalSeconds(totalSeconds)
-			.totalProjectCount(totalProjectCount)
+			.totalCost(usages.totalCost())
+			.totalRequests(usages.totalRequests())
+			.totalSeconds(usages.totalSeconds())
+			.totalProjectCount(projectIds.size())
 			.projectCosts(projectCosts)
 			.monthProjectCosts(monthProjectCosts)
 			.monthProjectRequests(monthProjectRequests)
@@ -672,55 +534,36 @@ public class ApiUsageService {
 
 	@Transactional(readOnly = true)
 	public ApiUsageIntervalSpecificAllResponse getIntervalSpecificAllApiUsage(ApiUsageIntervalRequest request) {
-		Long projectId = request.getProjectId();
-		LocalDate startDate = request.getStartTime();
-		LocalDate endDate = request.getEndTime();
-
-		Date start = Date.from(startDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
-		Date end = Date.from(endDate.atTime(LocalTime.MAX).atZone(ZoneId.systemDefault()).toInstant());
-
-		List<ApiUsage> usages = apiUsageRepository.findByProjectIdAndDateRange(projectId, start, end);
-
-		// === 전체 요약 ===
-		double totalCost = usages.stream().mapToDouble(this::getUsageCost).sum();
-		int totalRequests = usages.stream().mapToInt(ApiUsage::getTotalRequestCount).sum();
-		int totalSeconds = usages.stream().mapToInt(ApiUsage::getTotalSeconds).sum();
-		int totalModelCount = (int)usages.stream()
-			.map(u -> u.getInformation().getModel().getId())
-			.distinct()
-			.count();
-
-		// === 월별 + 모델별 ===
-		DateTimeFormatter monthFmt = DateTimeFormatter.ofPattern("yyyy-MM");
-
-		Map<String, Map<Long, List<ApiUsage>>> monthModelGroup = usages.stream()
-			.collect(Collectors.groupingBy(
-				u -> u.getIntervalDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate().format(monthFmt),
-				Collectors.groupingBy(u -> u.getInformation().getModel().getId())
-			));
+		validatePeriod(request);
+		UsageAccumulator usages = UsageAccumulator.of(request.getStartTime(), request.getEndTime(),
+			apiUsageDailyRollupRepository.sumByProjectGroupByDateAndModel(
+				request.getProjectId(), request.getStartTime(), request.getEndTime()));
 
+		// === 월별 + 모델별 (최신순) ===
 		List<ApiUsageIntervalSpecificAllResponse.MonthModelCostDto> monthModelCosts = new ArrayList<>();
 		List<ApiUsageIntervalSpecificAllResponse.MonthModelRequestDto> monthModelRequests = new ArrayList<>();
 		List<ApiUsageIntervalSpecificAllResponse.MonthModelSecondDto> monthModelSeconds = new ArrayList<>();
 
-		for (Map.Entry<String, Map<Long, List<ApiUsage>>> monthEntry : monthModelGroup.entrySet()) {
-			String month = monthEntry.getKey();
-			Map<Long, List<ApiUsage>> modelMap = monthEntry.getValue();
+		for (YearMonth yearMonth : usages.monthsDescending()) {
+			if (!usages.hasMonth(yearMonth)) {
+				continue;
+			}
+			String month = yearMonth.format(MONTH_FORMAT);
 
 			List<ApiUsageIntervalSpecificAllResponse.ModelCostDto> costList = new ArrayList<>();
 			List<ApiUsageIntervalSpecificAllResponse.ModelRequestDto> reqList = new ArrayList<>();
 			List<ApiUsageIntervalSpecificAllResponse.ModelSecondDto> secList = new ArrayList<>();
-
-			for (Map.Entry<Long, List<ApiUsage>> entry : modelMap.entrySet()) {
-				Long modelId = entry.getKey();
-				List<ApiUsage> list = entry.getValue();
-
+			for (int group = 0; group < usages.groupCount(); group++) {
+				if (!usages.hasMonthCell(group, yearMonth)) {
+					continue;
+				}
+				Long modelId = usages.groupId(group);
 				costList.add(new ApiUsageIntervalSpecificAllResponse.ModelCostDto(modelId,
-					list.stream().mapToDouble(this::getUsageCost).sum()));
+					usages.monthCost(group, yearMonth)));
 				reqList.add(new ApiUsageIntervalSpecificAllResponse.ModelRequestDto(modelId,
-					list.stream().mapToInt(ApiUsage::getTotalRequestCount).sum()));
+					usages.monthRequests(group, yearMonth)));
 				secList.add(new ApiUsageIntervalSpecificAllResponse.ModelSecondDto(modelId,
-					list.stream().mapToInt(ApiUsage::getTotalSeconds).sum()));
+					usages.monthSeconds(group, yearMonth)));
 			}
 
 			monthModelCosts.add(new ApiUsageIntervalSpecificAllResponse.MonthModelCostDto(month, costList));
@@ -728,42 +571,28 @@ public class ApiUsageService {
 			monthModelSeconds.add(new ApiUsageIntervalSpecificAllResponse.MonthModelSecondDto(month, secList));
 		}
 
-		// === 일별 + 모델별 비용 ===
-		DateTimeFormatter dayFmt = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
-		Map<LocalDate, Map<Long, List<ApiUsage>>> dayModelGroup = usages.stream()
-			.collect(Collectors.groupingBy(
-				u -> u.getIntervalDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate(),
-				Collectors.groupingBy(u -> u.getInformation().getModel().getId())
-			));
-
-		List<ApiUsageIntervalSpecificAllResponse.DailyModelCostDto> dailyModelCosts = dayModelGroup.entrySet().stream()
-			.sorted(Map.Entry.<LocalDate, Map<Long, List<ApiUsage>>>comparingByKey().reversed())
-			.map(entry -> {
-				String date = entry.getKey().format(dayFmt);
-				Map<Long, List<ApiUsage>> modelMap = entry.getValue();
-
-				double totalCostPerDay = modelMap.values().stream()
-					.flatMap(List::stream)
-					.mapToDouble(this::getUsageCost)
-					.sum();
-
-				List<ApiUsageIntervalSpecificAllResponse.ModelCostDto> perModel = modelMap.entrySet().stream()
-					.map(e -> new ApiUsageIntervalSpecificAllResponse.ModelCostDto(
-						e.getKey(),
-						e.getValue().stream().mapToDouble(this::getUsageCost).sum()
-					))
-					.collect(Collectors.toList());
-
-				return new ApiUsageIntervalSpecificAllResponse.DailyModelCostDto(date, totalCostPerDay, perModel);
-			})
-			.collect(Collectors.toList());
+		// === 일별 + 모델별 비용 (최신순) ===
+		List<ApiUsageIntervalSpecificAllResponse.DailyModelCostDto> dailyModelCosts = new ArrayList<>();
+		for (int day = usages.dayCount() - 1; day >= 0; day--) {
+			if (!usages.hasDay(day)) {
+				continue;
+			}
+			List<ApiUsageIntervalSpecificAllResponse.ModelCostDto> perModel = new ArrayList<>();
+			for (int group = 0; group < usages.groupCount(); group++) {
+				if (usages.hasCell(group, day)) {
+					perModel.add(new ApiUsageIntervalSpecificAllResponse.ModelCostDto(usages.groupId(group),
+						usages.cost(group, day)));
+				}
+			}
+			dailyModelCosts.add(new ApiUsageIntervalSpecificAllResponse.DailyModelCostDto(
+				usages.date(day).format(DAY_FORMAT), usages.dayCost(day), perModel));
+		}
 
 		return ApiUsageIntervalSpecificAllResponse.builder()
-			.totalCost(totalCost)
-			.totalRequests(totalRequests)
-			.totalSeconds(totalSeconds)
-			.totalModelCount(totalModelCount)
+			.totalCost(usages.totalCost())
+			.totalRequests(usages.totalRequests())
+			.totalSeconds(usages.totalSeconds())
+			.totalModelCount(usages.groupCount())
 			.monthModelCosts(monthModelCosts)
 			.monthModelRequests(monthModelRequests)
 			.monthModelSeconds(monthModelSeconds)
@@ -778,33 +607,27 @@ public class ApiUsageService {
 			.orElseThrow(() -> new GlobalException(AuthErrorCode.USER_NOT_FOUND));
 
 		List<RoleArn> roleArns = roleArnRepository.findAllByUser(user);
-		List<Project> projects = projectRepository.findAllByRoleArnIn(roleArns);
+		List<Project> projects = projectRepository.findAllWithModelInformationsByRoleArnIn(roleArns);
 		List<Long> projectIds = projects.stream().map(Project::getId).toList();
 
 		LocalDate now = LocalDate.now();
 		LocalDate startOfMonth = now.withDayOfMonth(1);
 		LocalDate startOfLastMonth = startOfMonth.minusMonths(1);
-		LocalDate endOfLastMonth = startOfMonth.minusDays(1);
 
-		Date thisMonthStart = Date.from(startOfMonth.atStartOfDay(ZoneId.systemDefault()).toInstant());
-		Date nowDate = Date.from(now.atTime(LocalTime.MAX).atZone(ZoneId.systemDefault()).toInstant());
-		Date lastMonthStart = Date.from(startOfLastMonth.atStartOfDay(ZoneId.systemDefault()).toInstant());
-		Date lastMonthEnd = Date.from(endOfLastMonth.atTime(LocalTime.MAX).atZone(ZoneId.systemDefault()).toInstant());
-
-		// 이번 달과 지난 달의 사용량 조회
-		List<ApiUsage> thisMonthUsage = apiUsageRepository.findByProjectIdsAndDateRange(projectIds, thisMonthStart,
-			nowDate);
-		List<ApiUsage> lastMonthUsage = apiUsageRepository.findByProjectIdsAndDateRange(projectIds, lastMonthStart,
-			lastMonthEnd);
+		// 이번 달과 지난 달의 사용량 조회 (월별 집계 테이블)
+		List<ApiUsageMonthlyRollup> thisMonthUsage = apiUsageMonthlyRollupRepository.findByProjectIdInAndUsageMonth(
+			projectIds, startOfMonth);
+		List<ApiUsageMonthlyRollup> lastMonthUsage = apiUsageMonthlyRollupRepository.findByProjectIdInAndUsageMonth(
+			projectIds, startOfLastMonth);
 
 		// 요약 집계
-		double totalCost = thisMonthUsage.stream().mapToDouble(this::getUsageCost).sum();
-		int totalRequests = thisMonthUsage.stream().mapToInt(ApiUsage::getTotalRequestCount).sum();
-		int totalSeconds = thisMonthUsage.stream().mapToInt(ApiUsage::getTotalSeconds).sum();
+		double totalCost = thisMonthUsage.stream().mapToDouble(ApiUsageMonthlyRollup::getTotalCost).sum();
+		int totalRequests = thisMonthUsage.stream().mapToInt(ApiUsageMonthlyRollup::getTotalRequestCount).sum();
+		int totalSeconds = thisMonthUsage.stream().mapToInt(ApiUsageMonthlyRollup::getTotalSeconds).sum();
 
-		double lastTotalCost = lastMonthUsage.stream().mapToDouble(this::getUsageCost).sum();
-		int lastTotalRequests = lastMonthUsage.stream().mapToInt(ApiUsage::getTotalRequestCount).sum();
-		int lastTotalSeconds = lastMonthUsage.stream().mapToInt(ApiUsage::getTotalSeconds).sum();
+		double lastTotalCost = lastMonthUsage.stream().mapToDouble(ApiUsageMonthlyRollup::getTotalCost).sum();
+		int lastTotalRequests = lastMonthUsage.stream().mapToInt(ApiUsageMonthlyRollup::getTotalRequestCount).sum();
+		int lastTotalSeconds = lastMonthUsage.stream().mapToInt(ApiUsageMonthlyRollup::getTotalSeconds).sum();
 
 		// 프로젝트 정보만 추출
 		List<ApiUsageInitResponse.ProjectSummary> projectSummaries = projects.stream()
@@ -842,9 +665,15 @@ public class ApiUsageService {
 			.build();
 	}
 
-	private double getUsageCost(ApiUsage u) {
-		double rate = u.getInformation().getModel().getModelPricePerHour()
-			+ u.getInformation().getSpec().getSpecPricePerHour();
-		return (u.getTotalSeconds() / 3600.0) * rate;
+	/**
+	 * 조회 기간 검증 - 시작/종료일이 있고, 시작일이 종료일 이후가 아니며, 최대 조회 기간 이내
+	 */
+	private void validatePeriod(ApiUsageIntervalRequest request) {
+		LocalDate startDate = request.getStartTime();
+		LocalDate endDate = request.getEndTime();
+		if (startDate == null || endDate == null || startDate.isAfter(endDate)
+			|| ChronoUnit.DAYS.between(startDate, endDate) + 1 > MAX_PERIOD_DAYS) {
+			throw new GlobalException(DeploymentErrorCode.INVALID_USAGE_PERIOD);
+		}
 	}
-}
\ No newline at end of file
+}
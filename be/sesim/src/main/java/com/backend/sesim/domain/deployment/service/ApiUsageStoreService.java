@@ -0,0 +1,58 @@
+package com.backend.sesim.domain.deployment.service;
+
+import com.backend.sesim.domain.deployment.dto.internal.PendingApiUsage;
+import com.backend.sesim.domain.deployment.repository.ApiUsageJdbcRepository;
+import com.backend.sesim.domain.deployment.repository.ApiUsageRollupJdbcRepository;
+import com.backend.sesim.domain.deployment.repository.DataMigrationJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * api_usage 저장과 집계 테이블 갱신을 한 트랜잭션으로 묶는 쓰기 서비스
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApiUsageStoreService {
+
+    // data_migration에 기록하는 집계 테이블 백필 이름
+    private static final String ROLLUP_BACKFILL_MIGRATION = "api_usage_rollup_backfill";
+
+    private final ApiUsageJdbcRepository apiUsageJdbcRepository;
+    private final ApiUsageRollupJdbcRepository apiUsageRollupJdbcRepository;
+    private final DataMigrationJdbcRepository dataMigrationJdbcRepository;
+
+    /**
+     * 사용량 upsert 후 바뀐 항목의 일별/월별 집계를 갱신
+     *
+     * @return 실제로 값이 바뀌었거나 새로 생성된 항목
+     */
+    @Transactional
+    public List<PendingApiUsage> saveAll(List<PendingApiUsage> usages) {
+        List<PendingApiUsage> changed = apiUsageJdbcRepository.upsertAll(usages);
+        apiUsageRollupJdbcRepository.refresh(changed);
+        return changed;
+    }
+
+    /**
+     * 기존 api_usage로부터 집계 테이블을 한 번만 백필 (실행 여부는 data_migration에 기록)
+     * 시작 직후 flush나 다른 노드가 이미 집계 행을 썼어도 다시 합산해 덮어쓰므로 이력이 빠지지 않음
+     * 기록과 백필이 한 트랜잭션이라 백필이 실패하면 기록도 롤백되어 다음 시작 때 다시 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillRollupsOnce() {
+        if (!dataMigrationJdbcRepository.markApplied(ROLLUP_BACKFILL_MIGRATION)) {
+            return;
+        }
+        log.info("API 사용량 집계 테이블 백필 시작");
+        apiUsageRollupJdbcRepository.rebuildAll();
+        log.info("API 사용량 집계 테이블 백필 완료");
+    }
+}
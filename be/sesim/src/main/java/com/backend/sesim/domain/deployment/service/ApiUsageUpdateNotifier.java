@@ -0,0 +1,137 @@
+package com.backend.sesim.domain.deployment.service;
+
+import com.backend.sesim.domain.deployment.config.ApiUsageNotificationProperties;
+import com.backend.sesim.domain.deployment.dto.internal.InformationUsageTotal;
+import com.backend.sesim.domain.deployment.dto.internal.PendingApiUsage;
+import com.backend.sesim.domain.deployment.dto.response.ApiUsageModelTotalResponse;
+import com.backend.sesim.domain.deployment.dto.response.ApiUsageUpdateResponse;
+import com.backend.sesim.domain.deployment.repository.ApiUsageDailyRollupRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * API 사용량 SSE 알림 디바운서
+ * 변경이 들어오면 소유자를 dirty로 표시해 바뀐 모델 정보를 모아 두고, 간격이 지나면 사용자당 한 건의 이벤트로 전송
+ * 값은 전송 시점에 집계 테이블에서 읽은 누적 합계라, 여러 노드가 같은 행을 써도 마지막 알림이 항상 커밋된 최신 값을 담음
+ * 조회와 전송은 전용 스레드에서 하므로 적재 경로(트랜잭션, 버퍼 flush)는 SSE 직렬화/네트워크 쓰기를 기다리지 않음
+ */
+@Component
+@Slf4j
+public class ApiUsageUpdateNotifier {
+
+    private final ApiUsageNotificationProperties properties;
+    private final ApiUsageSSEService apiUsageSSEService;
+    private final ApiUsageDailyRollupRepository apiUsageDailyRollupRepository;
+    // @Scheduled가 쓰는 기본 스케줄러와 섞이지 않도록 빈으로 등록하지 않고 직접 소유
+    private final ScheduledExecutorService executor;
+
+    // 사용자 ID -> 모델 정보 ID -> 아직 알리지 않은 변경 (프로젝트, 모델, 시간당 요금 확인용)
+    private final Map<Long, Map<Long, PendingApiUsage>> dirty = new ConcurrentHashMap<>();
+
+    public ApiUsageUpdateNotifier(ApiUsageNotificationProperties properties, ApiUsageSSEService apiUsageSSEService,
+                                  ApiUsageDailyRollupRepository apiUsageDailyRollupRepository) {
+        this.properties = properties;
+        this.apiUsageSSEService = apiUsageSSEService;
+        this.apiUsageDailyRollupRepository = apiUsageDailyRollupRepository;
+        this.executor = Executors.newScheduledThreadPool(properties.getPoolSize(),
+                new CustomizableThreadFactory("api-usage-sse-"));
+    }
+
+    /**
+     * 반영된 사용량 변경을 알림 대상으로 등록
+     * 트랜잭션 안에서 호출되면 커밋 이후에 등록 (롤백된 변경은 알리지 않음)
+     */
+    public void notifyChanges(List<PendingApiUsage> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markDirty(changes);
+                }
+            });
+            return;
+        }
+        markDirty(changes);
+    }
+
+    private void markDirty(List<PendingApiUsage> changes) {
+        for (PendingApiUsage usage : changes) {
+            if (usage.getOwnerId() == null) {
+                log.warn("프로젝트 소유자를 찾을 수 없음, API 사용량 업데이트 알림 건너뜀: {}", usage.getProjectId());
+                continue;
+            }
+
+            // 첫 변경이 들어온 시점에 한 번만 전송 예약, 이후 간격 안의 변경은 같은 맵에 누적
+            dirty.compute(usage.getOwnerId(), (userId, targets) -> {
+                if (targets == null) {
+                    targets = new LinkedHashMap<>();
+                    executor.schedule(() -> flush(userId), properties.getDebounceWindowMillis(), TimeUnit.MILLISECONDS);
+                }
+                targets.put(usage.getInformationId(), usage);
+                return targets;
+            });
+        }
+    }
+
+    private void flush(Long userId) {
+        // remove 이후 들어오는 변경은 새 맵과 새 예약으로 이어짐
+        Map<Long, PendingApiUsage> targets = dirty.remove(userId);
+        if (targets == null) {
+            return;
+        }
+
+        try {
+            // 변경이 커밋된 뒤에 읽으므로 이 사용자에게 마지막으로 가는 값은 항상 최신 누적 합계
+            Map<Long, InformationUsageTotal> totals = apiUsageDailyRollupRepository
+                    .sumByInformationIds(targets.keySet()).stream()
+                    .collect(Collectors.toMap(InformationUsageTotal::getInformationId, Function.identity()));
+
+            List<ApiUsageModelTotalResponse> models = new ArrayList<>(targets.size());
+            targets.forEach((informationId, usage) -> {
+                InformationUsageTotal total = totals.get(informationId);
+                int requestCount = total == null ? 0 : total.getRequestCount();
+                int seconds = total == null ? 0 : total.getSeconds();
+                models.add(ApiUsageModelTotalResponse.builder()
+                        .projectId(usage.getProjectId())
+                        .modelId(usage.getModelId())
+                        .totalRequestCount(requestCount)
+                        .totalSeconds(seconds)
+                        .totalCost((seconds / 3600.0) * usage.getHourlyRate())
+                        .hourlyRate(usage.getHourlyRate())
+                        .build());
+            });
+
+            apiUsageSSEService.sendApiUsageUpdate(userId, ApiUsageUpdateResponse.builder()
+                    .models(models)
+                    .build());
+        } catch (Exception e) {
+            log.error("API 사용량 업데이트 알림 실패: userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 예약된 알림은 실행하지 않고 버림 - 종료 중에는 집계 조회/버스 발행에 쓰는 빈과 DataSource가 이미 정리되고 있음
+     */
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
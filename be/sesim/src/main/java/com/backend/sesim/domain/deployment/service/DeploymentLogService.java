@@ -0,0 +1,315 @@
+package com.backend.sesim.domain.deployment.service;
+
+import com.backend.sesim.domain.deployment.config.DeploymentLogProperties;
+import com.backend.sesim.domain.deployment.dto.response.DeploymentLogResponse;
+import com.backend.sesim.domain.deployment.dto.response.DeploymentProgressResponse;
+import com.backend.sesim.domain.deployment.entity.Project;
+import com.backend.sesim.domain.deployment.exception.DeploymentErrorCode;
+import com.backend.sesim.domain.deployment.repository.ProjectRepository;
+import com.backend.sesim.domain.deployment.service.SseEmitterRegistry.Topic;
+import com.backend.sesim.domain.deployment.util.DeploymentProgressParser;
+import com.backend.sesim.global.exception.GlobalException;
+import com.backend.sesim.global.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 배포 로그 수집 - Terraform / 원격 명령 출력을 배포(프로젝트)별 링 버퍼에 보관하고 진행 단위마다 PROGRESS 이벤트 전송
+ * 버퍼에서 밀려난 줄과 배포가 끝난 뒤의 전체 로그는 디스크 파일(spillDir/project-{id}.log)에 남김
+ * 파일은 실행마다 새로 쓰고 직전 실행의 로그만 project-{id}.log.1로 남겨, 재시도/재배포가 반복돼도 커지지 않음
+ *
+ * 실행 중인 배포 단계는 스레드별 컨텍스트(open)로 전달 - TerraformExecutor, SSHService는 줄만 넘기고
+ * 컨텍스트가 없는 실행(기준 작업 공간 init 등)의 출력은 수집하지 않음
+ * 다른 스레드가 출력을 쓰는 경우(JSch 세션 스레드의 표준 오류 등)는 appender로 컨텍스트를 미리 잡아 둠
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeploymentLogService {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    private final DeploymentLogProperties properties;
+    private final SseEventBus sseEventBus;
+    private final ProjectRepository projectRepository;
+    private final SecurityUtils securityUtils;
+
+    // 진행 중인 배포의 로그 (배포가 끝나면 파일로 내보내고 제거)
+    private final Map<Long, DeploymentLog> logs = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<Context> context = new ThreadLocal<>();
+
+    /**
+     * 현재 스레드에서 실행하는 명령의 출력을 이 배포 단계의 로그로 수집
+     */
+    public Scope open(Long projectId, String stepName) {
+        Context previous = context.get();
+        context.set(new Context(projectId, stepName));
+        return () -> {
+            if (previous == null) {
+                context.remove();
+            } else {
+                context.set(previous);
+            }
+        };
+    }
+
+    /**
+     * 현재 스레드의 배포 단계 로그에 한 줄 추가 (컨텍스트가 없으면 무시)
+     */
+    public void append(String source, String line) {
+        append(context.get(), source, line);
+    }
+
+    /**
+     * 현재 스레드의 배포 단계에 묶인 줄 수집기 - 어느 스레드에서 호출해도 같은 단계의 로그에 추가
+     * 명령 시작 시점에 만들어 출력 스트림에 넘김 (컨텍스트가 없으면 아무것도 하지 않는 수집기)
+     */
+    public Consumer<String> appender(String source) {
+        Context current = context.get();
+        if (current == null) {
+            return line -> { };
+        }
+        return line -> append(current, source, line);
+    }
+
+    private void append(Context current, String source, String line) {
+        if (current == null || line == null || line.isBlank()) {
+            return;
+        }
+
+        DeploymentLog deploymentLog = logs.computeIfAbsent(current.projectId, DeploymentLog::new);
+        DeploymentProgressResponse progress = deploymentLog.append(current.stepName, source, line);
+        if (progress != null) {
+            publish(deploymentLog, progress);
+        }
+    }
+
+    /**
+     * 배포 실행이 끝났을 때 호출 - 보내지 못한 진행 이벤트를 보내고 버퍼를 파일로 내보냄
+     */
+    public void complete(Long projectId) {
+        DeploymentLog deploymentLog = logs.remove(projectId);
+        if (deploymentLog == null) {
+            return;
+        }
+        DeploymentProgressResponse progress = deploymentLog.close();
+        if (progress != null) {
+            publish(deploymentLog, progress);
+        }
+    }
+
+    /**
+     * 최근 배포 로그 조회 - 진행 중이면 메모리 버퍼, 끝났으면 파일의 마지막 부분
+     */
+    public DeploymentLogResponse getRecentLogs(Long projectId) {
+        Project project = projectRepository.findProjectWithRoleArnById(projectId)
+                .orElseThrow(() -> new GlobalException(DeploymentErrorCode.PROJECT_NOT_FOUND));
+
+        // 사용자 접근 권한 확인 (프로젝트 소유자인지)
+        if (!project.getRoleArn().getUser().getId().equals(securityUtils.getCurrentUsersId())) {
+            throw new GlobalException(DeploymentErrorCode.UNAUTHORIZED_PROJECT_ACCESS);
+        }
+
+        DeploymentLog deploymentLog = logs.get(projectId);
+        List<String> lines = deploymentLog != null ? deploymentLog.snapshot() : readTail(projectId);
+        return DeploymentLogResponse.builder()
+                .projectId(projectId)
+                .lines(lines)
+                .build();
+    }
+
+    private void publish(DeploymentLog deploymentLog, DeploymentProgressResponse progress) {
+        Long ownerId = deploymentLog.ownerId();
+        if (ownerId == null) {
+            return;
+        }
+        // 누적 값이라 아직 못 보낸 같은 배포의 이전 진행은 새 진행으로 대체
+        sseEventBus.publish(Topic.DEPLOYMENT_STATUS, ownerId, SseEmitterRegistry.EVENT_PROGRESS, progress,
+                "PROGRESS-" + deploymentLog.projectId);
+    }
+
+    private List<String> readTail(Long projectId) {
+        Path file = spillFile(projectId);
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        Deque<String> tail = new ArrayDeque<>(properties.getBufferLines());
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            lines.forEach(line -> {
+                if (tail.size() == properties.getBufferLines()) {
+                    tail.removeFirst();
+                }
+                tail.addLast(line);
+            });
+        } catch (IOException e) {
+            log.warn("배포 로그 파일 읽기 실패: {}", e.getMessage());
+            return List.of();
+        }
+        return new ArrayList<>(tail);
+    }
+
+    private Path spillFile(Long projectId) {
+        return properties.spillPath().resolve("project-" + projectId + ".log");
+    }
+
+    /**
+     * open()이 반환하는 컨텍스트 - try-with-resources로 이전 컨텍스트 복원
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static class Context {
+        private final Long projectId;
+        private final String stepName;
+
+        private Context(Long projectId, String stepName) {
+            this.projectId = projectId;
+            this.stepName = stepName;
+        }
+    }
+
+    /**
+     * 한 배포 실행의 로그 - 같은 배포의 여러 작업 스레드가 동시에 쓰므로 모든 변경은 this 잠금 안에서
+     */
+    private class DeploymentLog {
+        private final Long projectId;
+        private final Deque<String> lines = new ArrayDeque<>();
+        private BufferedWriter spillWriter;
+        private boolean spillFailed;
+
+        // 소유자 ID는 첫 진행 이벤트에서 한 번만 조회
+        private boolean ownerResolved;
+        private Long ownerId;
+
+        private int resourcesCreated;
+        private int packagesInstalled;
+        private int podsReady;
+        private DeploymentProgressResponse pendingProgress;
+        private long lastPublishedAt;
+
+        private DeploymentLog(Long projectId) {
+            this.projectId = projectId;
+        }
+
+        /**
+         * @return 지금 보낼 진행 이벤트 (진행 단위가 아니거나 전송 간격 전이면 null)
+         */
+        private synchronized DeploymentProgressResponse append(String stepName, String source, String line) {
+            lines.addLast("[" + LocalTime.now().format(TIME_FORMAT) + "] [" + stepName + "] [" + source + "] " + line);
+            if (lines.size() > properties.getBufferLines()) {
+                spill(lines.removeFirst());
+            }
+
+            DeploymentProgressParser.Progress parsed = DeploymentProgressParser.parse(line);
+            if (parsed != null) {
+                switch (parsed.getType()) {
+                    case RESOURCE_CREATED -> resourcesCreated++;
+                    case PACKAGE_INSTALLED -> packagesInstalled++;
+                    case POD_READY -> podsReady++;
+                }
+                pendingProgress = DeploymentProgressResponse.builder()
+                        .projectId(projectId)
+                        .stepName(stepName)
+                        .type(parsed.getType().name())
+                        .message(parsed.getSubject())
+                        .resourcesCreated(resourcesCreated)
+                        .packagesInstalled(packagesInstalled)
+                        .podsReady(podsReady)
+                        .build();
+            }
+
+            // 진행이 몰릴 때(apt 설치 등)는 간격마다 최신 누적 값만 전송
+            long now = System.currentTimeMillis();
+            if (pendingProgress == null || now - lastPublishedAt < properties.getProgressIntervalMillis()) {
+                return null;
+            }
+            lastPublishedAt = now;
+            DeploymentProgressResponse progress = pendingProgress;
+            pendingProgress = null;
+            return progress;
+        }
+
+        private synchronized List<String> snapshot() {
+            return new ArrayList<>(lines);
+        }
+
+        /**
+         * 남은 줄을 모두 파일로 내보내고 닫음
+         *
+         * @return 간격 때문에 아직 보내지 못한 마지막 진행 이벤트
+         */
+        private synchronized DeploymentProgressResponse close() {
+            while (!lines.isEmpty()) {
+                spill(lines.removeFirst());
+            }
+            if (spillWriter != null) {
+                try {
+                    spillWriter.close();
+                } catch (IOException e) {
+                    log.warn("배포 로그 파일 닫기 실패: {}", e.getMessage());
+                }
+            }
+            DeploymentProgressResponse progress = pendingProgress;
+            pendingProgress = null;
+            return progress;
+        }
+
+        private synchronized Long ownerId() {
+            if (!ownerResolved) {
+                ownerResolved = true;
+                ownerId = projectRepository.findProjectWithRoleArnById(projectId)
+                        .map(project -> project.getRoleArn().getUser().getId())
+                        .orElse(null);
+            }
+            return ownerId;
+        }
+
+        private void spill(String line) {
+            if (spillFailed) {
+                return;
+            }
+            try {
+                if (spillWriter == null) {
+                    // 이 실행의 첫 기록 - 이전 실행의 로그는 .1로 옮기고 새 파일로 시작
+                    Files.createDirectories(properties.spillPath());
+                    Path file = spillFile(projectId);
+                    if (Files.exists(file)) {
+                        Files.move(file, file.resolveSibling(file.getFileName() + ".1"),
+                                StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    spillWriter = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+                }
+                spillWriter.write(line);
+                spillWriter.newLine();
+            } catch (IOException e) {
+                // 디스크에 못 쓰면 이후 밀려나는 줄은 버림 (메모리 버퍼 크기는 그대로 유지)
+                spillFailed = true;
+                log.warn("배포 로그 파일 쓰기 실패, 이후 밀려나는 로그는 버림 - 프로젝트 ID: {}, 원인: {}", projectId, e.getMessage());
+            }
+        }
+    }
+}
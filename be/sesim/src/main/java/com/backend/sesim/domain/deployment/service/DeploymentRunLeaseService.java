@@ -0,0 +1,103 @@
+package com.backend.sesim.domain.deployment.service;
+
+import com.backend.sesim.domain.deployment.config.DeploymentLeaseProperties;
+import com.backend.sesim.domain.deployment.repository.DeploymentRunLeaseJdbcRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로젝트 배포 실행의 노드 간 점유 (deployment_run_lease)
+ * 재시도 요청은 점유를 먼저 잡아 다른 노드에서 실행 중인 배포와 겹치지 않게 하고,
+ * 실행 중인 노드는 주기적으로 점유를 갱신 - 갱신이 끊긴 점유의 진행 중 단계는 DeploymentStepService가 실패 처리
+ */
+@Service
+@Slf4j
+public class DeploymentRunLeaseService {
+
+    private final DeploymentRunLeaseJdbcRepository deploymentRunLeaseJdbcRepository;
+    private final DeploymentLeaseProperties properties;
+
+    // 이 프로세스의 식별자 - 재시작하면 바뀌므로 재시작 전의 점유는 갱신되지 않고 만료됨
+    @Getter
+    private final String nodeId;
+
+    // 이 노드에서 실행 중이라 갱신할 프로젝트
+    private final Set<Long> runningProjects = ConcurrentHashMap.newKeySet();
+
+    public DeploymentRunLeaseService(DeploymentRunLeaseJdbcRepository deploymentRunLeaseJdbcRepository,
+                                     DeploymentLeaseProperties properties) {
+        this.deploymentRunLeaseJdbcRepository = deploymentRunLeaseJdbcRepository;
+        this.properties = properties;
+        this.nodeId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 실행 전에 점유를 잡음 (재시도 요청 트랜잭션 안에서 호출하면 커밋될 때 확정)
+     *
+     * @return 다른 노드가 실행 중이면 false
+     */
+    public boolean tryAcquire(Long projectId) {
+        return deploymentRunLeaseJdbcRepository.acquire(projectId, nodeId, properties.getTtlSeconds());
+    }
+
+    /**
+     * 배포 실행 시작 - 점유를 잡고(이미 이 노드가 가졌으면 그대로) 실행이 끝날 때까지 갱신
+     *
+     * @return 다른 노드가 먼저 실행을 시작했으면 false
+     */
+    public boolean begin(Long projectId) {
+        if (!tryAcquire(projectId)) {
+            return false;
+        }
+        runningProjects.add(projectId);
+        return true;
+    }
+
+    /**
+     * 배포 실행 종료 - 갱신을 멈추고 점유를 놓음
+     */
+    public void end(Long projectId) {
+        runningProjects.remove(projectId);
+        try {
+            deploymentRunLeaseJdbcRepository.release(projectId, nodeId);
+        } catch (Exception e) {
+            // 놓지 못한 점유는 만료되면 다음 재시도가 가져감
+            log.warn("배포 실행 점유 해제 실패 - 프로젝트 ID: {}, 원인: {}", projectId, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${deployment.lease.heartbeat-interval-millis:15000}")
+    public void renew() {
+        if (runningProjects.isEmpty()) {
+            return;
+        }
+        try {
+            List<Long> projectIds = List.copyOf(runningProjects);
+            int renewed = deploymentRunLeaseJdbcRepository.renew(projectIds, nodeId, properties.getTtlSeconds());
+            if (renewed < projectIds.size()) {
+                log.warn("일부 배포 실행 점유를 갱신하지 못함 (만료 후 다른 노드가 가져감) - {}/{}", renewed, projectIds.size());
+            }
+        } catch (Exception e) {
+            log.error("배포 실행 점유 갱신 실패", e);
+        }
+    }
+
+    private static String hostName() {
+        try {
+            String hostName = InetAddress.getLocalHost().getHostName();
+            // owner_node 길이(100) 안에 들어가도록
+            return hostName.length() > 80 ? hostName.substring(0, 80) : hostName;
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
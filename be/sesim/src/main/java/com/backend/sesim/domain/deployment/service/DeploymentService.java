@@ -1,16 +1,19 @@
 package com.backend.sesim.domain.deployment.service;
 
+import com.backend.sesim.domain.deployment.dto.internal.InfrastructureCheckpoint;
 import com.backend.sesim.domain.deployment.entity.DeploymentStep;
 import com.backend.sesim.domain.deployment.entity.Project;
 import com.backend.sesim.domain.deployment.entity.RegisterIp;
 import com.backend.sesim.domain.deployment.entity.ProjectModelInformation;
 import com.backend.sesim.domain.deployment.exception.DeploymentErrorCode;
-import com.backend.sesim.domain.deployment.repository.DeploymentStepRepository;
 import com.backend.sesim.domain.deployment.repository.ProjectModelInfoRepository;
 import com.backend.sesim.domain.deployment.repository.ProjectRepository;
 import com.backend.sesim.domain.deployment.repository.RegisterIpRepository;
+import com.backend.sesim.domain.deployment.util.DeploymentTaskGraph;
 import com.backend.sesim.domain.deployment.util.TerraformExecutor;
 import com.backend.sesim.global.exception.GlobalException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,6 +30,8 @@ import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import static com.backend.sesim.domain.deployment.constant.DeploymentConstants.*;
@@ -40,12 +45,19 @@ public class DeploymentService {
     private final TerraformExecutor terraformExecutor;
     private final K3sSetupService k3sSetupService;
     private final ProjectRepository projectRepository;
-    private final DeploymentStepRepository deploymentStepRepository;
+    private final DeploymentStepService deploymentStepService;
     private final ProjectModelInfoRepository projectModelInfoRepository;
     private final SqlService sqlService;
-    private final DeploymentStepSSEService sseService;
     private final RegisterIpRepository registerIpRepository;
     private final AmazonEC2 amazonEC2;
+    private final ProjectModelInfoCache projectModelInfoCache;
+    private final S3Service s3Service;
+    private final DeploymentLogService deploymentLogService;
+    private final SshSessionPool sshSessionPool;
+    private final DeploymentRunLeaseService deploymentRunLeaseService;
+    private final ObjectMapper objectMapper;
+    // 같은 타입의 Executor 빈이 여러 개라 파라미터 이름(deploymentTaskExecutor)으로 주입됨
+    private final Executor deploymentTaskExecutor;
 
     @Value("${aws.saas.access-key}")
     private String saasAccessKey;
@@ -57,191 +69,353 @@ public class DeploymentService {
     private static final String FIXED_REGION = "ap-northeast-2";
     private static final String FIXED_AMI_ID = "ami-0898b9c266ded3337"; // 서울 리전 Ubuntu 20.04
 
+    // 배포 작업 그래프 노드 - 배포 단계(STEP_*) 외에 단계 사이에 끼워 동시에 실행하는 준비 작업
+    private static final String TASK_SETUP_BUNDLE = "SETUP_BUNDLE";      // 설치 패키지 다운로드 (환경 구축 준비)
+    private static final String TASK_INIT_SQL = "INIT_SQL";              // init.sql 생성 (환경 구축 준비)
+    private static final String TASK_SECURITY_GROUP = "SECURITY_GROUP";  // 보안 그룹 조회 (완료 단계 준비)
+
+    /**
+     * 새 배포를 처음부터 실행합니다.
+     */
     @Async("deploymentExecutor")
     public void executeDeploymentAsync(String deploymentId, String customerId, Long projectId, List<ProjectModelInformation> modelInfos) {
         log.info("비동기 배포 실행 시작 - 배포 ID: {}, 프로젝트 ID: {}", deploymentId, projectId);
+        // 단계를 진행 중으로 바꾸기 전에 점유 - 점유 없는 진행 중 단계는 중단된 것으로 정리됨
+        if (!deploymentRunLeaseService.begin(projectId)) {
+            log.warn("다른 노드에서 실행 중인 배포가 있어 새 실행을 건너뜀 - 프로젝트 ID: {}", projectId);
+            return;
+        }
 
-        // 프로젝트 조회
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> {
-                    log.error("프로젝트 ID: {}에 해당하는 프로젝트를 찾을 수 없음", projectId);
-                    return new GlobalException(DeploymentErrorCode.PROJECT_NOT_FOUND);
-                });
+        InfrastructureCheckpoint checkpoint = InfrastructureCheckpoint.builder()
+                .deploymentId(deploymentId)
+                .customerId(customerId)
+                .build();
+        try {
+            // 재시도가 같은 작업 디렉토리를 쓰도록 Terraform 실행 전에 ID부터 기록
+            deploymentStepService.updateStepStatus(projectId, STEP_INFRASTRUCTURE, STATUS_DEPLOYING, toJson(checkpoint));
+        } catch (Exception e) {
+            log.error("배포 초기화 중 예외 발생: {}", e.getMessage(), e);
+            deploymentStepService.updateStepStatus(projectId, STEP_INFRASTRUCTURE, STATUS_FAILED);
+            deploymentRunLeaseService.end(projectId);
+            return;
+        }
+
+        runDeployment(new DeploymentRun(projectId, checkpoint, modelInfos), List.of());
+    }
+
+    /**
+     * 실패한 배포를 이어서 실행합니다 - 이미 완료된 단계는 체크포인트를 읽어 건너뜀
+     * 호출 전에 실패한 단계가 대기 상태로 되돌려져 있어야 함 (DeploymentStepService.resetFailedSteps)
+     */
+    @Async("deploymentExecutor")
+    public void retryDeploymentAsync(Long projectId) {
+        // 재시도 요청에서 잡은 점유를 이어받음 (그사이 만료되어 다른 노드가 가져갔으면 그쪽이 실행)
+        if (!deploymentRunLeaseService.begin(projectId)) {
+            log.warn("다른 노드에서 실행 중인 배포가 있어 재시도를 건너뜀 - 프로젝트 ID: {}", projectId);
+            return;
+        }
+        List<DeploymentStep> steps = deploymentStepService.getSteps(projectId);
+        InfrastructureCheckpoint checkpoint = steps.stream()
+                .filter(step -> STEP_INFRASTRUCTURE.equals(step.getStepName()))
+                .findFirst()
+                .map(step -> readCheckpoint(step.getCheckpoint()))
+                .orElse(null);
+        if (checkpoint == null) {
+            log.error("체크포인트가 없어 배포를 재시도할 수 없음 - 프로젝트 ID: {}", projectId);
+            deploymentStepService.updateStepStatus(projectId, STEP_INFRASTRUCTURE, STATUS_FAILED);
+            deploymentRunLeaseService.end(projectId);
+            return;
+        }
+        log.info("배포 재시도 시작 - 배포 ID: {}, 프로젝트 ID: {}", checkpoint.getDeploymentId(), projectId);
+
+        List<String> completedSteps = steps.stream()
+                .filter(step -> STATUS_DEPLOYED.equals(step.getStepStatus()))
+                .map(DeploymentStep::getStepName)
+                .collect(Collectors.toList());
+        List<ProjectModelInformation> modelInfos = projectModelInfoRepository.findAllWithModelAndSpecByProjectId(projectId);
+
+        runDeployment(new DeploymentRun(projectId, checkpoint, modelInfos), completedSteps);
+    }
+
+    /**
+     * 배포 단계를 의존 관계대로 실행합니다.
+     * 서로 독립인 작업은 동시에 실행 (Terraform 실행 중에 설치 패키지 다운로드 등)
+     *
+     * @param completedSteps 이미 완료된 단계 - 실행하지 않고 체크포인트의 결과를 사용
+     */
+    private void runDeployment(DeploymentRun run, List<String> completedSteps) {
+        Long projectId = run.projectId;
+        DeploymentTaskGraph graph = new DeploymentTaskGraph()
+                // 1. 인프라 생성
+                .add(STEP_INFRASTRUCTURE, step(run, STEP_INFRASTRUCTURE, () -> createInfrastructure(run)))
+                // 설치 패키지는 인스턴스와 무관하므로 Terraform과 동시에 다운로드
+                .add(TASK_SETUP_BUNDLE, prepare(run, STEP_ENVIRONMENT,
+                        () -> run.setupZip = k3sSetupService.downloadSetupBundle()))
+                // init.sql에는 ALB 주소가 들어가므로 인프라 생성 이후
+                .add(TASK_INIT_SQL, prepare(run, STEP_ENVIRONMENT, () -> run.initSql = makeInitSql(run)),
+                        STEP_INFRASTRUCTURE)
+                // 보안 그룹 조회는 실패해도 배포를 막지 않음 (SSH 제한만 생략)
+                .add(TASK_SECURITY_GROUP, () -> run.securityGroupId = findSecurityGroupId(run.deploymentId, run.customerId),
+                        STEP_INFRASTRUCTURE)
+                // 2. 환경 구축
+                .add(STEP_ENVIRONMENT, step(run, STEP_ENVIRONMENT, () -> setupEnvironment(run)),
+                        STEP_INFRASTRUCTURE, TASK_SETUP_BUNDLE, TASK_INIT_SQL)
+                // 3. 서버 배포
+                .add(STEP_SERVER_DEPLOYMENT, step(run, STEP_SERVER_DEPLOYMENT, () -> checkServers(run)),
+                        STEP_ENVIRONMENT)
+                // 4. 완료 - SSH 포트 제한은 백엔드의 SSH 작업이 모두 끝난 뒤 마지막에 적용
+                .add(STEP_COMPLETION, step(run, STEP_COMPLETION, () -> complete(run)),
+                        STEP_SERVER_DEPLOYMENT, TASK_SECURITY_GROUP);
+
+        if (completedSteps.contains(STEP_INFRASTRUCTURE)) {
+            graph.markCompleted(STEP_INFRASTRUCTURE);
+        }
+        if (completedSteps.contains(STEP_ENVIRONMENT)) {
+            // 환경 구축이 끝났으면 그 준비 작업도 필요 없음
+            graph.markCompleted(TASK_SETUP_BUNDLE).markCompleted(TASK_INIT_SQL).markCompleted(STEP_ENVIRONMENT);
+        }
+        if (completedSteps.contains(STEP_SERVER_DEPLOYMENT)) {
+            graph.markCompleted(STEP_SERVER_DEPLOYMENT);
+        }
 
         try {
-            // 1. 인프라 생성 단계 시작
-            updateStepStatus(projectId, STEP_INFRASTRUCTURE, STATUS_DEPLOYING);
+            if (graph.run(deploymentTaskExecutor)) {
+                log.info("배포 완료 - 프로젝트 ID: {}", projectId);
+            } else {
+                log.error("배포 실패 - 프로젝트 ID: {}, 실패한 단계부터 재시도 가능", projectId);
+            }
+        } finally {
+            // 단계 상태를 모두 기록한 뒤에 점유를 놓음
+            deploymentRunLeaseService.end(projectId);
+            // 임시 파일 정리
+            s3Service.cleanupFile(run.setupZip);
+            // 남은 배포 로그는 파일로 내보냄
+            deploymentLogService.complete(projectId);
+            // 이번 실행에서 단계들이 공유한 마스터 노드 SSH 세션 정리
+            List<String> ec2PublicIps = run.checkpoint.getEc2PublicIps();
+            if (ec2PublicIps != null && !ec2PublicIps.isEmpty()) {
+                sshSessionPool.evictHost(ec2PublicIps.get(0));
+            }
+        }
+    }
 
+    /**
+     * 배포 단계 작업 - 진행 중 -> 완료/실패 상태를 기록
+     *
+     * @param work 완료 시 함께 저장할 체크포인트(JSON)를 반환, 없으면 null
+     */
+    private DeploymentTaskGraph.Task step(DeploymentRun run, String stepName, Callable<String> work) {
+        return () -> {
+            // 이 단계에서 실행하는 Terraform / 원격 명령 출력을 배포 로그로 수집
+            try (DeploymentLogService.Scope ignored = deploymentLogService.open(run.projectId, stepName)) {
+                deploymentStepService.updateStepStatus(run.projectId, stepName, STATUS_DEPLOYING);
+                String checkpoint = work.call();
+                deploymentStepService.updateStepStatus(run.projectId, stepName, STATUS_DEPLOYED, checkpoint);
+            } catch (Exception e) {
+                log.error("배포 단계 실패 - 프로젝트 ID: {}, 단계: {}, 원인: {}", run.projectId, stepName, e.getMessage(), e);
+                deploymentStepService.updateStepStatus(run.projectId, stepName, STATUS_FAILED);
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * 단계 준비 작업 - 실패하면 그 결과를 쓰는 단계를 실패로 기록 (단계 자체는 실행되지 않음)
+     */
+    private DeploymentTaskGraph.Task prepare(DeploymentRun run, String stepName, DeploymentTaskGraph.Task work) {
+        return () -> {
             try {
-                // 프로젝트에 등록된 IP 주소 목록 조회
-                List<String> allowedIpAddresses = registerIpRepository.findByProjectId(projectId)
-                        .stream()
-                        .map(RegisterIp::getIpNumber)
-                        .collect(Collectors.toList());
-
-                log.info("프로젝트 ID: {}에 등록된 IP 주소 수: {}", projectId, allowedIpAddresses.size());
-
-                // 운영체제에 맞는 임시 디렉토리 사용
-                String tempDir = System.getProperty("java.io.tmpdir");
-                String workingDir = Paths.get(tempDir, "terraform", deploymentId).toString();
-                log.info("작업 디렉토리: {}", workingDir);
-
-                // Terraform 템플릿 파일 생성
-                log.info("Terraform 템플릿 파일 생성 중...");
-                templateService.createSaasTerraformFiles(
-                        workingDir,
-                        deploymentId,
-                        customerId,
-                        FIXED_REGION,
-                        FIXED_AMI_ID,
-                        saasAccessKey,
-                        saasSecretKey,
-                        "",  // 세션 토큰 불필요
-                        allowedIpAddresses // 허용 IP 목록 전달
-                );
-
-                // Terraform 실행
-                log.info("Terraform 실행 중...");
-                boolean success = terraformExecutor.runTerraformInitAndApply(Paths.get(workingDir));
-
-                if (!success) {
-                    log.error("Terraform 실행 실패");
-                    updateStepStatus(projectId, STEP_INFRASTRUCTURE, STATUS_FAILED);
-                    return;
-                }
+                work.run();
+            } catch (Exception e) {
+                log.error("배포 준비 작업 실패 - 프로젝트 ID: {}, 단계: {}, 원인: {}", run.projectId, stepName, e.getMessage(), e);
+                deploymentStepService.updateStepStatus(run.projectId, stepName, STATUS_FAILED);
+                throw e;
+            }
+        };
+    }
 
-                // 결과 수집
-                Map<String, Object> outputs = terraformExecutor.getOutputs(Paths.get(workingDir));
-                List<String> ec2PublicIps = (List<String>) outputs.get("ec2_public_ips");
-                String pemKeyPath = (String) outputs.get("pem_file_path");
+    /**
+     * Terraform으로 인프라를 생성하고 출력값을 체크포인트로 반환합니다.
+     */
+    private String createInfrastructure(DeploymentRun run) throws IOException {
+        Long projectId = run.projectId;
+
+        // 프로젝트에 등록된 IP 주소 목록 조회
+        List<String> allowedIpAddresses = findAllowedIpAddresses(projectId);
+        log.info("프로젝트 ID: {}에 등록된 IP 주소 수: {}", projectId, allowedIpAddresses.size());
+
+        // 운영체제에 맞는 임시 디렉토리 사용 (재시도 시 같은 디렉토리의 Terraform 상태를 이어서 사용)
+        String workingDir = workingDir(run.deploymentId);
+        log.info("작업 디렉토리: {}", workingDir);
+
+        // Terraform 템플릿 파일 생성
+        log.info("Terraform 템플릿 파일 생성 중...");
+        templateService.createSaasTerraformFiles(
+                workingDir,
+                run.deploymentId,
+                run.customerId,
+                FIXED_REGION,
+                FIXED_AMI_ID,
+                saasAccessKey,
+                saasSecretKey,
+                "",  // 세션 토큰 불필요
+                allowedIpAddresses // 허용 IP 목록 전달
+        );
+
+        // Terraform 실행
+        log.info("Terraform 실행 중...");
+        if (!terraformExecutor.runTerraformInitAndApply(Paths.get(workingDir))) {
+            throw new IllegalStateException("Terraform 실행 실패");
+        }
 
-                // ALB 주소 업데이트
-                if (ec2PublicIps != null && !ec2PublicIps.isEmpty()) {
-                    String masterIp = ec2PublicIps.get(0);
-                    String albAddress = "http://" + masterIp;
-                    project.updateAlbAddress(albAddress);
-                    projectRepository.save(project);
+        // 결과 수집
+        Map<String, Object> outputs = terraformExecutor.getOutputs(Paths.get(workingDir));
+        List<String> ec2PublicIps = (List<String>) outputs.get("ec2_public_ips");
+        String pemKeyPath = (String) outputs.get("pem_file_path");
+        if (ec2PublicIps == null || ec2PublicIps.isEmpty()) {
+            throw new IllegalStateException("EC2 인스턴스 IP 주소를 찾을 수 없습니다.");
+        }
 
-                    // 최신 모델 정보 목록으로 갱신
-                    List<ProjectModelInformation> freshModelInfos = refreshModelInformationList(modelInfos);
+        // ALB 주소 업데이트
+        String albAddress = "http://" + ec2PublicIps.get(0);
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new GlobalException(DeploymentErrorCode.PROJECT_NOT_FOUND));
+        project.updateAlbAddress(albAddress);
+        projectRepository.save(project);
 
-                    // ALB 주소가 업데이트된 후 Grafana URL 업데이트
-                    updateGrafanaUrls(project, freshModelInfos);
+        // 최신 모델 정보 목록으로 갱신
+        List<ProjectModelInformation> freshModelInfos = refreshModelInformationList(run.modelInfos);
 
-                    log.info("ALB 주소 업데이트: {}", albAddress);
-                } else {
-                    throw new RuntimeException("EC2 인스턴스 IP 주소를 찾을 수 없습니다.");
-                }
+        // ALB 주소가 업데이트된 후 Grafana URL 업데이트
+        updateGrafanaUrls(project, freshModelInfos);
 
-                // 인프라 생성 완료
-                updateStepStatus(projectId, STEP_INFRASTRUCTURE, STATUS_DEPLOYED);
-
-                // 2. 환경 구축 단계 시작
-                updateStepStatus(projectId, STEP_ENVIRONMENT, STATUS_DEPLOYING);
-
-                // 중요: 영속 상태의 프로젝트를 다시 조회
-                Project freshProject = projectRepository.findProjectWithRoleArnById(projectId)
-                        .orElseThrow(() -> new RuntimeException("프로젝트를 찾을 수 없습니다."));
-
-                // init.sql 파일 생성
-                File initSql = sqlService.makeInitSql(freshProject, modelInfos);
-                log.info("init.sql 파일 생성 완료");
-
-                // K3S 클러스터 설치
-                log.info("K3S 클러스터 설치 중...");
-                boolean k3sSuccess = k3sSetupService.setupK3sCluster(
-                        ec2PublicIps,
-                        pemKeyPath,
-                        deploymentId,
-                        customerId,
-                        initSql
-                );
-
-                if (!k3sSuccess) {
-                    log.error("K3S 클러스터 설치 실패");
-                    updateStepStatus(projectId, STEP_ENVIRONMENT, STATUS_FAILED);
-                    return;
-                }
+        // 프로젝트 모델 정보가 바뀌었으므로 사용량 적재 캐시 무효화
+        projectModelInfoCache.evictProject(projectId);
 
-                // 환경 구축 완료
-                updateStepStatus(projectId, STEP_ENVIRONMENT, STATUS_DEPLOYED);
+        log.info("ALB 주소 업데이트: {}", albAddress);
 
-                // 3. 서버 배포 단계 시작
-                updateStepStatus(projectId, STEP_SERVER_DEPLOYMENT, STATUS_DEPLOYING);
+        run.checkpoint = run.checkpoint.toBuilder()
+                .ec2PublicIps(ec2PublicIps)
+                .pemKeyPath(pemKeyPath)
+                .albAddress(albAddress)
+                .build();
+        return toJson(run.checkpoint);
+    }
 
-                // 서버 배포 로직 추가 (기존 로직을 여기에 배치)
-                boolean allPodsReady = k3sSetupService.checkAllPodsReady(
-                    ec2PublicIps.get(0),  // master IP
-                    deploymentId,           // DeploymentId
-                    "client-system",      // namespace
-                    300                   // timeout seconds
-                );
+    private File makeInitSql(DeploymentRun run) {
+        // 중요: 영속 상태의 프로젝트를 다시 조회
+        Project freshProject = projectRepository.findProjectWithRoleArnById(run.projectId)
+                .orElseThrow(() -> new GlobalException(DeploymentErrorCode.PROJECT_NOT_FOUND));
 
-                // 서버 배포 완료
-                if(allPodsReady) {
-                    updateStepStatus(projectId, STEP_SERVER_DEPLOYMENT, STATUS_DEPLOYED);
-                }
+        File initSql = sqlService.makeInitSql(freshProject, run.modelInfos);
+        log.info("init.sql 파일 생성 완료");
+        return initSql;
+    }
 
-                if (!allPodsReady) {
-                    log.error("서버 배포 실패");
-                    updateStepStatus(projectId, STEP_SERVER_DEPLOYMENT, STATUS_FAILED);
-                    return;
-                }
+    private String setupEnvironment(DeploymentRun run) {
+        // K3S 클러스터 설치
+        log.info("K3S 클러스터 설치 중...");
+        boolean k3sSuccess = k3sSetupService.setupK3sCluster(
+                run.checkpoint.getEc2PublicIps(),
+                run.checkpoint.getPemKeyPath(),
+                run.deploymentId,
+                run.customerId,
+                run.initSql,
+                run.setupZip
+        );
+        if (!k3sSuccess) {
+            throw new IllegalStateException("K3S 클러스터 설치 실패");
+        }
+        return null;
+    }
 
-                // 4. 완료 단계 시작
-                updateStepStatus(projectId, STEP_COMPLETION, STATUS_DEPLOYING);
-
-                boolean deletedDirectory = k3sSetupService.deleteFile(ec2PublicIps.get(0), deploymentId);
-
-                if(deletedDirectory) {
-                    // 완료 단계가 성공하면 보안 그룹 업데이트 시도
-                    try {
-                        // 보안 그룹 ID 찾기
-                        String securityGroupId = findSecurityGroupId(deploymentId, customerId);
-
-                        if (securityGroupId != null) {
-                            // 프로젝트에 등록된 IP 주소 목록 다시 조회
-                            List<String> updatedIpAddresses = registerIpRepository.findByProjectId(projectId)
-                                    .stream()
-                                    .map(RegisterIp::getIpNumber)
-                                    .collect(Collectors.toList());
-
-                            // SSH 포트 접근 제한 업데이트
-                            updateSshSecurityGroupRule(securityGroupId, updatedIpAddresses);
-                            log.info("보안 그룹 업데이트 완료: SSH 포트에 IP 제한 적용됨");
-                        } else {
-                            log.warn("보안 그룹을 찾을 수 없어 SSH 포트 제한 적용 실패");
-                        }
-                    } catch (Exception e) {
-                        log.error("보안 그룹 업데이트 중 오류 발생: {}", e.getMessage(), e);
-                        // 보안 그룹 업데이트 실패해도 배포는 성공으로 처리
-                    }
-
-                    // 완료 단계 완료
-                    updateStepStatus(projectId, STEP_COMPLETION, STATUS_DEPLOYED);
-                }
+    private String checkServers(DeploymentRun run) {
+        boolean allPodsReady = k3sSetupService.checkAllPodsReady(
+                run.masterIp(),        // master IP
+                run.deploymentId,      // DeploymentId
+                "client-system",      // namespace
+                300                   // timeout seconds
+        );
+        if (!allPodsReady) {
+            throw new IllegalStateException("서버 배포 실패");
+        }
+        return null;
+    }
 
-                if(!deletedDirectory) {
-                    // 완료 단계 실패
-                    log.error("완료 실패");
-                    updateStepStatus(projectId, STEP_COMPLETION, STATUS_FAILED);
-                    return;
-                }
+    private String complete(DeploymentRun run) {
+        if (!k3sSetupService.deleteFile(run.masterIp(), run.deploymentId)) {
+            throw new IllegalStateException("완료 실패");
+        }
 
-                log.info("배포 완료 - 프로젝트 ID: {}", projectId);
+        // 완료 단계가 성공하면 보안 그룹 업데이트 시도
+        if (run.securityGroupId != null) {
+            // 프로젝트에 등록된 IP 주소 목록 다시 조회 후 SSH 포트 접근 제한 업데이트
+            updateSshSecurityGroupRule(run.securityGroupId, findAllowedIpAddresses(run.projectId));
+            log.info("보안 그룹 업데이트 완료: SSH 포트에 IP 제한 적용됨");
+        } else {
+            // 보안 그룹 업데이트 실패해도 배포는 성공으로 처리
+            log.warn("보안 그룹을 찾을 수 없어 SSH 포트 제한 적용 실패");
+        }
+        return null;
+    }
 
-            } catch (IOException e) {
-                log.error("Terraform 파일 생성 실패: {}", e.getMessage(), e);
-                updateCurrentStepToFailed(projectId);
-                return;
-            } catch (Exception e) {
-                log.error("배포 중 예외 발생: {}", e.getMessage(), e);
-                updateCurrentStepToFailed(projectId);
-            }
+    private List<String> findAllowedIpAddresses(Long projectId) {
+        return registerIpRepository.findByProjectId(projectId)
+                .stream()
+                .map(RegisterIp::getIpNumber)
+                .collect(Collectors.toList());
+    }
 
-        } catch (Exception e) {
-            log.error("배포 초기화 중 예외 발생: {}", e.getMessage(), e);
-            updateStepStatus(projectId, STEP_INFRASTRUCTURE, STATUS_FAILED);
+    private static String workingDir(String deploymentId) {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        return Paths.get(tempDir, "terraform", deploymentId).toString();
+    }
+
+    private String toJson(InfrastructureCheckpoint checkpoint) {
+        try {
+            return objectMapper.writeValueAsString(checkpoint);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("체크포인트 직렬화 실패", e);
+        }
+    }
+
+    private InfrastructureCheckpoint readCheckpoint(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, InfrastructureCheckpoint.class);
+        } catch (JsonProcessingException e) {
+            log.error("체크포인트 읽기 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 한 번의 배포 실행에서 작업 사이에 넘기는 값
+     * 작업은 선행 작업이 끝난 뒤에 시작되므로(CompletableFuture 완료 순서) 별도 동기화 없이 이전 작업의 결과를 읽음
+     */
+    private static class DeploymentRun {
+        private final Long projectId;
+        private final String deploymentId;
+        private final String customerId;
+        private final List<ProjectModelInformation> modelInfos;
+
+        private volatile InfrastructureCheckpoint checkpoint;
+        private volatile File setupZip;
+        private volatile File initSql;
+        private volatile String securityGroupId;
+
+        private DeploymentRun(Long projectId, InfrastructureCheckpoint checkpoint, List<ProjectModelInformation> modelInfos) {
+            this.projectId = projectId;
+            this.deploymentId = checkpoint.getDeploymentId();
+            this.customerId = checkpoint.getCustomerId();
+            this.modelInfos = modelInfos;
+            this.checkpoint = checkpoint;
+        }
+
+        private String masterIp() {
+            return checkpoint.getEc2PublicIps().get(0);
         }
     }
 
@@ -344,42 +518,6 @@ public class DeploymentService {
         }
     }
 
-    /**
-     * 배포 단계 상태를 업데이트합니다.
-     */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    protected void updateStepStatus(Long projectId, String stepName, String status) {
-        DeploymentStep step = deploymentStepRepository.findByProjectIdAndStepName(projectId, stepName)
-                .orElseThrow(() -> new RuntimeException("배포 단계를 찾을 수 없음: " + stepName));
-
-        step.updateStatus(status);
-        deploymentStepRepository.saveAndFlush(step);
-        log.info("배포 단계 상태 업데이트 - 프로젝트 ID: {}, 단계: {}, 상태: {}", projectId, stepName, status);
-
-        // SSE를 통해 상태 업데이트 알림
-        sseService.notifyDeploymentStatusUpdate(step);
-    }
-
-    /**
-     * 현재 진행 중인 단계를 실패로 표시합니다.
-     */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    protected void updateCurrentStepToFailed(Long projectId) {
-        List<DeploymentStep> steps = deploymentStepRepository.findByProjectIdOrderByStepOrder(projectId);
-
-        for (DeploymentStep step : steps) {
-            if (STATUS_DEPLOYING.equals(step.getStepStatus())) {
-                step.updateStatus(STATUS_FAILED);
-                deploymentStepRepository.saveAndFlush(step); // 즉시 DB에 반영
-                log.info("현재 진행 중인 단계를 실패로 표시 - 프로젝트 ID: {}, 단계: {}", projectId, step.getStepName());
-
-                // SSE를 통해 상태 업데이트 알림
-                sseService.notifyDeploymentStatusUpdate(step);
-                break;
-            }
-        }
-    }
-
     /**
      * ALB 주소가 생성된 후 grafanaUrl을 업데이트합니다.
      * @param project 업데이트된 ALB 주소를 가진 프로젝트
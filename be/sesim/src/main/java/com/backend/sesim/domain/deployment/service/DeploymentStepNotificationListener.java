@@ -0,0 +1,50 @@
+package com.backend.sesim.domain.deployment.service;
+
+import com.backend.sesim.domain.deployment.dto.internal.DeploymentStepChangedEvent;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 배포 단계 변경이 커밋된 뒤에만 STATUS_UPDATE 알림 (롤백된 변경은 알리지 않음)
+ * 알림 전용 스레드에서 처리하므로 Terraform/K3s 작업 스레드는 상태 재조회와 발행을 기다리지 않음
+ *
+ * 프로젝트별로 아직 처리하지 않은 마지막 변경만 보관 - STATUS_UPDATE는 프로젝트 전체 상태를 다시 조회해 담으므로
+ * 같은 프로젝트의 대기 중인 변경은 최신 변경으로 대체되고, 다른 프로젝트의 알림(완료/실패 포함)은 버려지지 않음
+ */
+@Component
+public class DeploymentStepNotificationListener {
+
+    private final DeploymentStepSSEService deploymentStepSSEService;
+    private final Executor notificationExecutor;
+
+    // 프로젝트 ID -> 아직 알리지 않은 마지막 변경 (실행기 큐에는 프로젝트당 작업이 최대 하나)
+    private final Map<Long, DeploymentStepChangedEvent> pending = new ConcurrentHashMap<>();
+
+    public DeploymentStepNotificationListener(DeploymentStepSSEService deploymentStepSSEService,
+                                              @Qualifier("deploymentNotificationExecutor") Executor notificationExecutor) {
+        this.deploymentStepSSEService = deploymentStepSSEService;
+        this.notificationExecutor = notificationExecutor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStepChanged(DeploymentStepChangedEvent event) {
+        // 이미 대기 중인 작업이 있으면 그 작업이 이 변경을 꺼내 알림
+        if (pending.put(event.getProjectId(), event) == null) {
+            notificationExecutor.execute(() -> notifyLatest(event.getProjectId()));
+        }
+    }
+
+    private void notifyLatest(Long projectId) {
+        // remove 이후 들어오는 변경은 새 작업으로 이어짐
+        DeploymentStepChangedEvent event = pending.remove(projectId);
+        if (event != null) {
+            deploymentStepSSEService.notifyDeploymentStatusUpdate(event);
+        }
+    }
+}
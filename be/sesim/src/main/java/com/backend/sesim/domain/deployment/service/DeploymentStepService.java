@@ -0,0 +1,112 @@
+package com.backend.sesim.domain.deployment.service;
+
+import com.backend.sesim.domain.deployment.dto.internal.DeploymentStepChangedEvent;
+import com.backend.sesim.domain.deployment.entity.DeploymentStep;
+import com.backend.sesim.domain.deployment.repository.DeploymentStepRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.backend.sesim.domain.deployment.constant.DeploymentConstants.*;
+
+/**
+ * 배포 단계 상태 변경 - 단계마다 독립된 트랜잭션으로 바로 커밋하고 DeploymentStepChangedEvent 발행
+ * DeploymentService와 다른 빈이라 호출이 프록시를 거쳐 REQUIRES_NEW가 실제로 적용됨
+ * 알림(상태 재조회, SSE 발행)은 커밋 후 DeploymentStepNotificationListener가 별도 스레드에서 처리
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DeploymentStepService {
+
+    private final DeploymentStepRepository deploymentStepRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 배포 단계 상태를 업데이트합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void updateStepStatus(Long projectId, String stepName, String status) {
+        updateStepStatus(projectId, stepName, status, null);
+    }
+
+    /**
+     * 배포 단계 상태와 체크포인트를 한 트랜잭션으로 업데이트합니다.
+     *
+     * @param checkpoint 단계 결과 (JSON, null이면 기존 값 유지)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void updateStepStatus(Long projectId, String stepName, String status, String checkpoint) {
+        DeploymentStep step = deploymentStepRepository.findByProjectIdAndStepName(projectId, stepName)
+                .orElseThrow(() -> new RuntimeException("배포 단계를 찾을 수 없음: " + stepName));
+
+        step.updateStatus(status);
+        if (checkpoint != null) {
+            step.updateCheckpoint(checkpoint);
+        }
+        log.info("배포 단계 상태 업데이트 - 프로젝트 ID: {}, 단계: {}, 상태: {}", projectId, stepName, status);
+
+        eventPublisher.publishEvent(DeploymentStepChangedEvent.of(projectId, step));
+    }
+
+    @Transactional(readOnly = true)
+    public List<DeploymentStep> getSteps(Long projectId) {
+        return deploymentStepRepository.findByProjectIdOrderByStepOrder(projectId);
+    }
+
+    /**
+     * 실패한 단계를 대기 상태로 되돌립니다 (재시도 시작).
+     *
+     * @return 되돌린 단계가 있으면 true - 다른 재시도가 먼저 가져갔거나 실패한 단계가 없으면 false
+     */
+    @Transactional
+    public boolean resetFailedSteps(Long projectId) {
+        int reset = deploymentStepRepository.updateStatusByProjectIdAndStatus(projectId, STATUS_FAILED, STATUS_PENDING);
+        if (reset == 0) {
+            return false;
+        }
+        // 실패 -> 대기 상태 변경도 STATUS_UPDATE로 알림 (알림에 프로젝트 전체 상태가 담기므로 첫 단계만)
+        deploymentStepRepository.findByProjectIdOrderByStepOrder(projectId).stream()
+                .filter(step -> STATUS_PENDING.equals(step.getStepStatus()))
+                .findFirst()
+                .ifPresent(step -> eventPublisher.publishEvent(DeploymentStepChangedEvent.of(projectId, step)));
+        return true;
+    }
+
+    /**
+     * 실행 점유가 만료된 진행 중 단계를 실패로 표시 - 실행하던 노드가 죽거나 재시작되어 그대로 두면 재시도할 수 없음
+     * 다른 노드에서 실행 중인 배포는 그 노드가 점유를 갱신하므로 건드리지 않음
+     */
+    @Scheduled(fixedDelayString = "${deployment.lease.heartbeat-interval-millis:15000}")
+    @Transactional
+    public void failInterruptedSteps() {
+        int failed = deploymentStepRepository.updateStatusWithoutLiveLease(STATUS_DEPLOYING, STATUS_FAILED);
+        if (failed > 0) {
+            log.warn("실행이 중단된 배포 단계를 실패로 표시 - {}개 단계, 실패한 단계부터 재시도 가능", failed);
+        }
+    }
+
+    /**
+     * 현재 진행 중인 단계를 실패로 표시합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void updateCurrentStepToFailed(Long projectId) {
+        List<DeploymentStep> steps = deploymentStepRepository.findByProjectIdOrderByStepOrder(projectId);
+
+        for (DeploymentStep step : steps) {
+            if (STATUS_DEPLOYING.equals(step.getStepStatus())) {
+                step.updateStatus(STATUS_FAILED);
+                log.info("현재 진행 중인 단계를 실패로 표시 - 프로젝트 ID: {}, 단계: {}", projectId, step.getStepName());
+
+                eventPublisher.publishEvent(DeploymentStepChangedEvent.of(projectId, step));
+                break;
+            }
+        }
+    }
+}
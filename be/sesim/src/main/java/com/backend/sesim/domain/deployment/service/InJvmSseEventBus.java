@@ -0,0 +1,22 @@
+package com.backend.sesim.domain.deployment.service;
+
+import com.backend.sesim.domain.deployment.service.SseEmitterRegistry.Topic;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 버스 - 이 JVM의 연결에 바로 전송 (기본값)
+ */
+@Component
+@ConditionalOnProperty(prefix = "sse.bus", name = "type", havingValue = "in-jvm", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InJvmSseEventBus implements SseEventBus {
+
+    private final SseEmitterRegistry sseEmitterRegistry;
+
+    @Override
+    public void publish(Topic topic, Long userId, String eventName, Object data, String coalesceKey) {
+        sseEmitterRegistry.sendToUser(topic, userId, eventName, data, coalesceKey);
+    }
+}
@@ -0,0 +1,135 @@
+package com.backend.sesim.domain.deployment.service;
+
+import com.backend.sesim.domain.deployment.config.SseProperties;
+import com.backend.sesim.domain.deployment.dto.internal.SseBusMessage;
+import com.backend.sesim.domain.deployment.repository.SseBusEventJdbcRepository;
+import com.backend.sesim.domain.deployment.service.SseEmitterRegistry.Topic;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 노드용 버스 - MySQL 테이블(sse_bus_event)만으로 동작 (브로커 불필요)
+ * 발행은 한 행 INSERT, 각 노드는 이벤트 ID 커서로 주기적으로 읽어 자기 노드의 연결에 전달 (발행한 노드도 폴링으로 받음)
+ * 테이블 ID를 그대로 SSE 이벤트 ID로 써서 노드마다 같은 순서/ID가 되고, 다른 노드로 재연결해도 ID가 이어짐
+ * auto increment ID는 커밋 순서와 다를 수 있어, 커서가 건너뛴 ID는 gapTimeoutMillis 동안 다시 조회
+ */
+@Component
+@ConditionalOnProperty(prefix = "sse.bus", name = "type", havingValue = "jdbc")
+@RequiredArgsConstructor
+@Slf4j
+public class JdbcSseEventBus implements SseEventBus {
+
+    // 한 번에 추적하는 빈 ID 최대 수 (대량 롤백 등으로 크게 건너뛰면 나머지는 포기)
+    private static final int MAX_TRACKED_GAPS = 1000;
+
+    private final SseBusEventJdbcRepository sseBusEventJdbcRepository;
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final SseProperties properties;
+    private final ObjectMapper objectMapper;
+
+    // 아래 상태는 폴링 스레드에서만 변경 (@Scheduled fixedDelay는 겹쳐 실행되지 않음)
+    private volatile long cursor;
+    // 건너뛴 ID -> 처음 발견한 시각
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+
+    @PostConstruct
+    void init() {
+        // 기존 이벤트는 이미 지난 것으로 보고 이후부터 전달
+        cursor = sseBusEventJdbcRepository.findMaxId();
+        sseEmitterRegistry.resetEventSequence(cursor);
+        log.info("JDBC SSE 이벤트 버스 시작, 커서={}", cursor);
+    }
+
+    /**
+     * 호출 측 트랜잭션과 무관하게 바로 커밋 (다른 노드가 곧바로 읽을 수 있도록)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void publish(Topic topic, Long userId, String eventName, Object data, String coalesceKey) {
+        if (userId == null) {
+            log.warn("사용자 ID가 null, 이벤트 발행 건너뜀");
+            return;
+        }
+        try {
+            String payload = data instanceof String text ? text : objectMapper.writeValueAsString(data);
+            sseBusEventJdbcRepository.insert(topic, userId, eventName, payload, coalesceKey);
+        } catch (JsonProcessingException e) {
+            log.error("SSE 이벤트 직렬화 실패: {}", eventName, e);
+        } catch (Exception e) {
+            log.error("SSE 이벤트 발행 실패: {} (사용자 {})", eventName, userId, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sse.bus.poll-interval-millis:200}")
+    public void poll() {
+        try {
+            long now = System.currentTimeMillis();
+            retryGaps(now);
+
+            List<SseBusMessage> messages = sseBusEventJdbcRepository.findAfter(cursor,
+                    properties.getBus().getPollBatchSize());
+            for (SseBusMessage message : messages) {
+                trackGaps(cursor, message.getEventId(), now);
+                deliver(message);
+                cursor = message.getEventId();
+            }
+        } catch (Exception e) {
+            log.error("SSE 이벤트 버스 폴링 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void cleanup() {
+        try {
+            int deleted = sseBusEventJdbcRepository.deleteOlderThan(properties.getBus().getRetentionMillis() / 1000);
+            if (deleted > 0) {
+                log.debug("SSE 이벤트 버스 오래된 이벤트 {}건 삭제", deleted);
+            }
+        } catch (Exception e) {
+            log.error("SSE 이벤트 버스 정리 실패", e);
+        }
+    }
+
+    /**
+     * 커서 이후에 커밋된 작은 ID 이벤트 전달, 기다릴 시간이 지난 ID는 롤백된 것으로 보고 제거
+     */
+    private void retryGaps(long now) {
+        if (gaps.isEmpty()) {
+            return;
+        }
+        for (SseBusMessage message : sseBusEventJdbcRepository.findByIds(List.copyOf(gaps.keySet()))) {
+            gaps.remove(message.getEventId());
+            deliver(message);
+        }
+        Iterator<Long> detectedAt = gaps.values().iterator();
+        while (detectedAt.hasNext()) {
+            if (now - detectedAt.next() > properties.getBus().getGapTimeoutMillis()) {
+                detectedAt.remove();
+            }
+        }
+    }
+
+    private void trackGaps(long previousId, long eventId, long now) {
+        for (long missing = previousId + 1; missing < eventId && gaps.size() < MAX_TRACKED_GAPS; missing++) {
+            gaps.putIfAbsent(missing, now);
+        }
+    }
+
+    private void deliver(SseBusMessage message) {
+        sseEmitterRegistry.deliver(message.getTopic(), message.getUserId(), message.getEventName(),
+                message.getPayload(), message.getCoalesceKey(), message.getEventId());
+    }
+}
@@ -4,14 +4,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.AsyncResult;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.List;
-import java.util.concurrent.Future;
 
 @Slf4j
 @Service
@@ -20,6 +17,7 @@ public class K3sSetupService {
 
     private final S3Service s3Service;
     private final SSHService sshService;
+    private final SshSessionPool sshSessionPool;
 
     @Value("${aws.s3.setup-bucket}")
     private String setupBucket;
@@ -28,28 +26,25 @@ public class K3sSetupService {
     private String setupZipKey;
 
     /**
-     * K3S 클러스터 설치를 비동기적으로 수행합니다.
+     * S3에서 설치 패키지를 다운로드합니다 (Terraform 실행과 동시에 미리 받아 둘 수 있음).
      */
-    @Async("taskExecutor")
-    public Future<Boolean> setupK3sClusterAsync(List<String> publicIps, String pemKeyPath, String deploymentId, String customerId, File initSql) {
-        try {
-            boolean result = setupK3sCluster(publicIps, pemKeyPath, deploymentId, customerId, initSql);
-            return new AsyncResult<>(result);
-        } catch (Exception e) {
-            log.error("비동기 K3S 클러스터 설치 실패: {}", e.getMessage(), e);
-            return new AsyncResult<>(false);
-        }
+    public File downloadSetupBundle() throws IOException {
+        File setupZip = s3Service.downloadFile(setupBucket, setupZipKey);
+        log.info("설치 패키지 다운로드 완료: {}", setupZip.getAbsolutePath());
+        return setupZip;
     }
 
     /**
-     * K3S 클러스터 설치를 자동화합니다.
+     * 미리 받아 둔 설치 패키지로 K3S 클러스터를 설치합니다 (패키지 파일 정리는 호출 측 책임).
      *
      * @param publicIps EC2 인스턴스 공개 IP 목록
      * @param pemKeyPath PEM 키 파일 경로
      * @param customerId 고객 ID
+     * @param setupZip downloadSetupBundle()로 받은 설치 패키지
      * @return 설치 결과 (성공/실패)
      */
-    public boolean setupK3sCluster(List<String> publicIps, String pemKeyPath, String deploymentId, String customerId, File initSql) {
+    public boolean setupK3sCluster(List<String> publicIps, String pemKeyPath, String deploymentId, String customerId,
+                                   File initSql, File setupZip) {
         if (publicIps == null || publicIps.isEmpty()) {
             log.error("EC2 인스턴스 IP가 제공되지 않았습니다.");
             return false;
@@ -82,16 +77,11 @@ public class K3sSetupService {
         }
 
         Session session = null;
-        File setupZip = null;
 
         try {
-            // S3에서 설치 패키지 다운로드
-            setupZip = s3Service.downloadFile(setupBucket, setupZipKey);
-            log.info("설치 패키지 다운로드 완료: {}", setupZip.getAbsolutePath());
-
             // SSH 연결 설정 - 수정된 경로 사용
-            session = sshService.setupSession(masterIp, "ubuntu", correctPemPath);
-            log.info("SSH 연결 설정 완료: ubuntu@{}", masterIp);
+            session = sshSessionPool.acquire(masterIp, "ubuntu", correctPemPath);
+            log.info("SSH 연결 준비 완료: ubuntu@{}", masterIp);
 
             // 필요한 도구 설치
             String installCmd = "sudo apt update && sudo apt install -y unzip awscli";
@@ -199,22 +189,12 @@ public class K3sSetupService {
             log.error("K3S 클러스터 설치 실패: {}", e.getMessage(), e);
             return false;
         } finally {
-            // 세션 종료
+            // 세션 반환 (같은 배포의 다음 단계가 재사용)
             if (session != null) {
                 try {
-                    sshService.disconnect(session);
-                } catch (Exception e) {
-                    log.warn("세션 종료 중 오류 발생: {}", e.getMessage());
-                }
-            }
-
-            // 임시 파일 정리
-            if (setupZip != null && setupZip.exists()) {
-                try {
-                    setupZip.delete();
-                    log.debug("임시 파일 삭제: {}", setupZip.getAbsolutePath());
+                    sshSessionPool.release(session);
                 } catch (Exception e) {
-                    log.warn("임시 파일 삭제 중 오류 발생: {}", e.getMessage());
+                    log.warn("세션 반환 중 오류 발생: {}", e.getMessage());
                 }
             }
         }
@@ -232,10 +212,11 @@ public class K3sSetupService {
 				return false;
 			}
 
-            session = sshService.setupSession(masterIp,"ubuntu", correctPemPath);
+            session = sshSessionPool.acquire(masterIp,"ubuntu", correctPemPath);
             String cmd = String.format("sudo kubectl wait --for=condition=Ready pod --all -n %s --timeout=%ds", namespace, timeoutSeconds);
             log.info("Pod 상태 확인 명령어 실행: {}", cmd);
-            String result = sshService.executeCommand(session, cmd);
+            // kubectl이 스스로 끝나지 못하는 경우(API 서버 무응답)에 대비해 여유를 둔 명령 타임아웃
+            String result = sshService.executeCommand(session, cmd, (timeoutSeconds + 60) * 1000L);
             log.info("kubectl wait 결과: \n{}", result);
 
             if (result == null || result.isBlank()) return false;
@@ -256,9 +237,9 @@ public class K3sSetupService {
         } finally {
             if (session != null) {
                 try {
-                    sshService.disconnect(session);
+                    sshSessionPool.release(session);
                 } catch (Exception e) {
-                    log.warn("SSH 세션 종료 중 오류: {}", e.getMessage());
+                    log.warn("SSH 세션 반환 중 오류: {}", e.getMessage());
                 }
             }
         }
@@ -276,7 +257,7 @@ public class K3sSetupService {
 				return false;
 			}
 
-            session = sshService.setupSession(masterIp, "ubuntu", correctPemPath);
+            session = sshSessionPool.acquire(masterIp, "ubuntu", correctPemPath);
             sshService.executeCommand(session, "rm -rf k3s-setup");
 			log.info("k3s-setup 디렉토리 삭제 완료");
 			return true;
@@ -287,9 +268,9 @@ public class K3sSetupService {
         finally {
             if (session != null) {
                 try {
-                    sshService.disconnect(session);
+                    sshSessionPool.release(session);
                 } catch (Exception e) {
-                    log.warn("SSH 세션 종료 중 오류: {}", e.getMessage());
+                    log.warn("SSH 세션 반환 중 오류: {}", e.getMessage());
                 }
             }
         }
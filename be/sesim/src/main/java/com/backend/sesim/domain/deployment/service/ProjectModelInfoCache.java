@@ -0,0 +1,123 @@
+package com.backend.sesim.domain.deployment.service;
+
+import com.backend.sesim.domain.deployment.config.ProjectModelInfoCacheProperties;
+import com.backend.sesim.domain.deployment.dto.internal.ModelInfoRate;
+import com.backend.sesim.domain.deployment.entity.ProjectModelInformation;
+import com.backend.sesim.domain.deployment.exception.DeploymentErrorCode;
+import com.backend.sesim.domain.deployment.repository.ProjectModelInfoRepository;
+import com.backend.sesim.global.exception.GlobalException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용량 적재 경로용 (projectId, modelId) -> (informationId, 시간당 요금, 소유자 ID) 캐시
+ * 모델 정보는 배포 시점에만 바뀌므로, 변경 지점(TerraformService, DeploymentService)에서 프로젝트 단위로 무효화
+ */
+@Component
+@Slf4j
+public class ProjectModelInfoCache {
+
+    private final ProjectModelInfoRepository projectModelInfoRepository;
+    private final Cache<Key, ModelInfoRate> cache;
+
+    public ProjectModelInfoCache(ProjectModelInfoRepository projectModelInfoRepository,
+                                 MeterRegistry meterRegistry,
+                                 ProjectModelInfoCacheProperties properties) {
+        this.projectModelInfoRepository = projectModelInfoRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(Duration.ofMinutes(properties.getExpireAfterWriteMinutes()))
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions 등을 Micrometer로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "projectModelInfo");
+    }
+
+    /**
+     * (프로젝트, 모델)의 모델 정보 ID와 시간당 요금 조회
+     */
+    public ModelInfoRate get(Long projectId, Long modelId) {
+        return getAll(projectId, List.of(modelId)).get(modelId);
+    }
+
+    /**
+     * 한 프로젝트의 여러 모델을 한 번에 조회 (캐시에 없으면 프로젝트 전체를 한 번의 쿼리로 적재)
+     *
+     * @return modelId -> ModelInfoRate
+     */
+    public Map<Long, ModelInfoRate> getAll(Long projectId, Collection<Long> modelIds) {
+        Set<Key> keys = modelIds.stream()
+                .map(modelId -> new Key(projectId, modelId))
+                .collect(Collectors.toSet());
+
+        Map<Key, ModelInfoRate> found = cache.getAll(keys, missing -> loadProject(projectId));
+
+        Map<Long, ModelInfoRate> result = new HashMap<>();
+        for (Key key : keys) {
+            ModelInfoRate rate = found.get(key);
+            if (rate == null) {
+                log.error("프로젝트 ID: {}와 모델 ID: {}에 해당하는 정보를 찾을 수 없음", projectId, key.modelId);
+                throw new GlobalException(DeploymentErrorCode.MODEL_INFO_NOT_FOUND);
+            }
+            result.put(key.modelId, rate);
+        }
+        return result;
+    }
+
+    /**
+     * 프로젝트의 모델 정보가 바뀌었을 때 호출
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화 (커밋 전에 비우면 그 사이 조회가 이전 값을 다시 적재함)
+     */
+    public void evictProject(Long projectId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(projectId);
+                }
+            });
+            return;
+        }
+        evictNow(projectId);
+    }
+
+    private void evictNow(Long projectId) {
+        cache.asMap().keySet().removeIf(key -> key.projectId.equals(projectId));
+        log.debug("모델 정보 캐시 무효화: projectId={}", projectId);
+    }
+
+    private Map<Key, ModelInfoRate> loadProject(Long projectId) {
+        List<ProjectModelInformation> infos = projectModelInfoRepository.findAllWithModelAndSpecByProjectId(projectId);
+        return infos.stream()
+                .collect(Collectors.toMap(
+                        info -> new Key(projectId, info.getModel().getId()),
+                        info -> new ModelInfoRate(
+                                info.getId(),
+                                info.getModel().getModelPricePerHour() + info.getSpec().getSpecPricePerHour(),
+                                info.getProject().getRoleArn().getUser().getId())));
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class Key {
+        private Long projectId;
+        private Long modelId;
+    }
+}
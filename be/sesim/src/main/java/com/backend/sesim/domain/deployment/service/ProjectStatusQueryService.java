@@ -0,0 +1,136 @@
+package com.backend.sesim.domain.deployment.service;
+
+import com.backend.sesim.domain.deployment.dto.response.ProjectStatusResponse;
+import com.backend.sesim.domain.deployment.entity.DeploymentStep;
+import com.backend.sesim.domain.deployment.entity.Project;
+import com.backend.sesim.domain.deployment.entity.ProjectModelInformation;
+import com.backend.sesim.domain.deployment.entity.RegisterIp;
+import com.backend.sesim.domain.deployment.repository.DeploymentStepRepository;
+import com.backend.sesim.domain.deployment.repository.ProjectModelInfoRepository;
+import com.backend.sesim.domain.deployment.repository.ProjectRepository;
+import com.backend.sesim.domain.deployment.repository.RegisterIpRepository;
+import com.backend.sesim.domain.resourcemanagement.entity.Model;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로젝트 배포 상태(ProjectStatusResponse) 조회
+ * 단계/모델 정보(+모델)/허용 IP를 프로젝트 ID IN 쿼리 세 번으로 읽어 메모리에서 조립하므로, 프로젝트 수와 무관하게 쿼리 수가 일정
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProjectStatusQueryService {
+
+    private final ProjectRepository projectRepository;
+    private final DeploymentStepRepository deploymentStepRepository;
+    private final ProjectModelInfoRepository projectModelInfoRepository;
+    private final RegisterIpRepository registerIpRepository;
+
+    /**
+     * 사용자의 모든 프로젝트 배포 상태 (프로젝트 조회 1 + IN 쿼리 3)
+     */
+    public List<ProjectStatusResponse> getUserProjectStatuses(Long userId) {
+        return getProjectStatuses(projectRepository.findAllByUserId(userId));
+    }
+
+    public ProjectStatusResponse getProjectStatus(Project project) {
+        return getProjectStatuses(List.of(project)).get(0);
+    }
+
+    /**
+     * @return projects와 같은 순서의 배포 상태 목록
+     */
+    public List<ProjectStatusResponse> getProjectStatuses(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return List.of();
+        }
+        List<Long> projectIds = projects.stream().map(Project::getId).toList();
+
+        // 연관 프로젝트는 프록시의 ID만 읽으므로 추가 조회 없음
+        Map<Long, List<DeploymentStep>> stepsByProject = new HashMap<>();
+        for (DeploymentStep step : deploymentStepRepository.findByProjectIdInOrderByProjectIdAscStepOrderAsc(projectIds)) {
+            stepsByProject.computeIfAbsent(step.getProject().getId(), id -> new ArrayList<>()).add(step);
+        }
+        Map<Long, List<ProjectModelInformation>> modelInfosByProject = new HashMap<>();
+        for (ProjectModelInformation modelInfo : projectModelInfoRepository.findAllWithModelByProjectIdIn(projectIds)) {
+            modelInfosByProject.computeIfAbsent(modelInfo.getProject().getId(), id -> new ArrayList<>()).add(modelInfo);
+        }
+        Map<Long, List<String>> ipsByProject = new HashMap<>();
+        for (RegisterIp registerIp : registerIpRepository.findByProjectIdInOrderByIdAsc(projectIds)) {
+            ipsByProject.computeIfAbsent(registerIp.getProject().getId(), id -> new ArrayList<>())
+                    .add(registerIp.getIpNumber());
+        }
+
+        // 같은 모델이 여러 프로젝트에 배포돼 있어도 설명 첫 줄은 한 번만 계산
+        Map<Long, String> descriptions = new HashMap<>();
+        List<ProjectStatusResponse> statuses = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            statuses.add(toResponse(project,
+                    stepsByProject.getOrDefault(project.getId(), List.of()),
+                    modelInfosByProject.getOrDefault(project.getId(), List.of()),
+                    ipsByProject.getOrDefault(project.getId(), List.of()),
+                    descriptions));
+        }
+        return statuses;
+    }
+
+    private ProjectStatusResponse toResponse(Project project, List<DeploymentStep> steps,
+                                             List<ProjectModelInformation> modelInfos, List<String> allowedIps,
+                                             Map<Long, String> descriptions) {
+        // isDeployed 판단 - COMPLETION 단계가 DEPLOYED 상태인지 확인
+        boolean isDeployed = steps.stream()
+                .filter(step -> "COMPLETION".equals(step.getStepName()))
+                .findFirst()
+                .map(step -> "DEPLOYED".equals(step.getStepStatus()))
+                .orElse(false);
+
+        List<ProjectStatusResponse.StepStatus> stepStatuses = new ArrayList<>(steps.size());
+        for (DeploymentStep step : steps) {
+            stepStatuses.add(new ProjectStatusResponse.StepStatus(
+                    step.getId(),
+                    step.getStepOrder(),
+                    step.getStepName(),
+                    step.getStepStatus()));
+        }
+
+        List<ProjectStatusResponse.ModelInfo> models = new ArrayList<>(modelInfos.size());
+        for (ProjectModelInformation modelInfo : modelInfos) {
+            Model model = modelInfo.getModel();
+            models.add(new ProjectStatusResponse.ModelInfo(
+                    model.getId(),
+                    model.getName(),
+                    descriptions.computeIfAbsent(model.getId(), id -> firstLine(model.getShortDescription())),
+                    // information 테이블에서 직접 grafanaUrl 가져오기
+                    modelInfo.getGrafanaUrl()));
+        }
+
+        return ProjectStatusResponse.builder()
+                .projectId(project.getId())
+                .projectName(project.getName())
+                .description(project.getDescription())
+                .albAddress(project.getAlbAddress())
+                .allowedIps(allowedIps)
+                .isDeployed(isDeployed)
+                .steps(stepStatuses)
+                .models(models)
+                .build();
+    }
+
+    /**
+     * 모델의 short_description에서 첫 번째 줄 추출 (없으면 빈 문자열)
+     */
+    private static String firstLine(String text) {
+        if (text == null) {
+            return "";
+        }
+        int newline = text.indexOf('\n');
+        return newline < 0 ? text : text.substring(0, newline);
+    }
+}
@@ -1,8 +1,11 @@
 package com.backend.sesim.domain.deployment.service;
 
+import com.backend.sesim.domain.deployment.util.LogLineOutputStream;
 import com.jcraft.jsch.*;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import jakarta.annotation.PreDestroy;
 
@@ -10,20 +13,41 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.Map;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class SSHService {
 
+    private final DeploymentLogService deploymentLogService;
+
     @Value("${ssh.connection-timeout:60000}")
     private int connectionTimeout;
 
     @Value("${ssh.channel-timeout:30000}")
     private int channelTimeout;
 
+    // 명령 하나의 기본 최대 실행 시간 (K3S 설치 스크립트가 끝날 수 있을 만큼 길게)
+    @Value("${ssh.command-timeout:1800000}")
+    private long commandTimeout;
+
+    // 출력 EOF 이후 종료 코드 도착 확인 간격
+    private static final long EXIT_STATUS_POLL_MILLIS = 5;
+
+    // 명령 타임아웃 처리 전용 - @Scheduled 기본 스케줄러와 섞이지 않도록 빈으로 등록하지 않고 직접 소유
+    private final ScheduledExecutorService commandWatchdog = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("ssh-command-timeout-"));
+
     // 현재 활성화된 SSH 세션을 추적하기 위한 맵
     private final Map<String, Session> activeSessions = new ConcurrentHashMap<>();
 
@@ -176,15 +200,26 @@ public class SSHService {
     }
 
     /**
-     * 원격 서버에서 명령을 실행합니다.
+     * 원격 서버에서 명령을 실행합니다 (기본 명령 타임아웃 적용).
      *
      * @param session SSH 세션
      * @param command 실행할 명령어
-     * @return 명령 실행 결과
-     * @throws JSchException SSH 연결 오류 발생 시
+     * @return 명령 실행 결과 (표준 출력)
+     * @throws JSchException SSH 연결 오류, 타임아웃, 취소 시
      * @throws IOException 명령 실행 결과 읽기 오류 발생 시
      */
     public String executeCommand(Session session, String command) throws JSchException, IOException {
+        return executeCommand(session, command, commandTimeout);
+    }
+
+    /**
+     * 원격 서버에서 명령을 실행합니다.
+     * 표준 출력을 막힘 읽기로 받아 명령이 끝나는 즉시 반환하고, 시간을 넘기면 채널을 닫아 중단합니다.
+     * 실행 중인 스레드를 인터럽트하거나 애플리케이션이 종료되면 취소됩니다.
+     *
+     * @param timeoutMillis 명령 타임아웃 (밀리초)
+     */
+    public String executeCommand(Session session, String command, long timeoutMillis) throws JSchException, IOException {
         log.info("명령 실행: {} (서버: {})", command, session.getHost());
 
         // 종료 중이면 작업 취소
@@ -192,63 +227,93 @@ public class SSHService {
             throw new JSchException("애플리케이션 종료로 인한 명령 실행 취소");
         }
 
-        Channel channel = null;
-        ChannelExec execChannel = null;
+        ChannelExec execChannel = (ChannelExec) session.openChannel("exec");
+        AtomicBoolean timedOut = new AtomicBoolean(false);
+        ScheduledFuture<?> timeout = null;
+        long startedAt = System.currentTimeMillis();
 
         try {
-            channel = session.openChannel("exec");
-            execChannel = (ChannelExec) channel;
             execChannel.setCommand(command);
 
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            ByteArrayOutputStream errorStream = new ByteArrayOutputStream();
+            // 배포 로그 수집기는 이 스레드의 배포 단계로 미리 묶음 (실행 중인 배포 단계가 없으면 무시됨)
+            Consumer<String> logAppender = deploymentLogService.appender("ssh");
 
-            execChannel.setOutputStream(outputStream);
-            execChannel.setErrStream(errorStream);
+            // 표준 오류는 세션 스레드가 밀어 넣음 - 스레드별 컨텍스트가 없으므로 묶어 둔 수집기로 전달
+            StringBuffer errorOutput = new StringBuffer();
+            execChannel.setErrStream(new LogLineOutputStream(line -> {
+                errorOutput.append(line).append('\n');
+                logAppender.accept(line);
+            }));
 
             InputStream in = execChannel.getInputStream();
             execChannel.connect(channelTimeout);
 
-            byte[] tmp = new byte[1024];
-            StringBuilder resultBuilder = new StringBuilder();
-
-            while (true) {
-                // 인터럽트 체크
-                if (isShuttingDown.get() || Thread.currentThread().isInterrupted()) {
-                    throw new JSchException("애플리케이션 종료로 인한 명령 실행 중단");
+            // 시간을 넘기면 채널을 닫아 막힘 읽기를 끝냄
+            timeout = commandWatchdog.schedule(() -> {
+                timedOut.set(true);
+                execChannel.disconnect();
+            }, timeoutMillis, TimeUnit.MILLISECONDS);
+
+            // 원본 바이트를 모아 마지막에 한 번 UTF-8로 디코딩 (청크 경계에서 멀티바이트 문자가 잘리지 않음)
+            ByteArrayOutputStream result = new ByteArrayOutputStream();
+            try (LogLineOutputStream outputLines = new LogLineOutputStream(logAppender)) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    result.write(buffer, 0, read);
+                    outputLines.write(buffer, 0, read);
                 }
-
-                while (in.available() > 0) {
-                    int i = in.read(tmp, 0, 1024);
-                    if (i < 0) break;
-                    resultBuilder.append(new String(tmp, 0, i));
+            } catch (InterruptedIOException e) {
+                Thread.currentThread().interrupt();
+                throw new JSchException("명령 실행 중 인터럽트 발생", e);
+            } catch (IOException e) {
+                // 타임아웃/종료로 채널을 닫으면 읽기가 예외로 끝날 수 있음 - 아래에서 원인별로 처리
+                if (!timedOut.get() && !isShuttingDown.get()) {
+                    throw e;
                 }
+            }
 
-                if (execChannel.isClosed()) {
-                    int exitStatus = execChannel.getExitStatus();
-                    log.info("명령 종료 코드: {}", exitStatus);
-                    if (exitStatus != 0) {
-                        log.warn("명령 실행 실패: {} (종료 코드: {})", command, exitStatus);
-                        log.warn("오류 출력: {}", errorStream.toString());
-                    }
-                    break;
-                }
+            if (timedOut.get()) {
+                log.warn("명령 실행 시간 초과 ({}ms): {}", timeoutMillis, command);
+                throw new JSchException("명령 실행 시간 초과 (" + timeoutMillis + "ms): " + command);
+            }
+            if (isShuttingDown.get()) {
+                throw new JSchException("애플리케이션 종료로 인한 명령 실행 중단");
+            }
 
-                try {
-                    Thread.sleep(1000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new JSchException("명령 실행 중 인터럽트 발생", e);
-                }
+            int exitStatus = awaitExitStatus(execChannel, startedAt + timeoutMillis);
+            log.info("명령 종료 코드: {} ({}ms)", exitStatus, System.currentTimeMillis() - startedAt);
+            if (exitStatus != 0) {
+                log.warn("명령 실행 실패: {} (종료 코드: {})", command, exitStatus);
+                log.warn("오류 출력: {}", errorOutput);
             }
 
-            String result = resultBuilder.toString();
-            log.debug("명령 실행 결과: {}", result);
-            return result;
+            String output = result.toString(StandardCharsets.UTF_8);
+            log.debug("명령 실행 결과: {}", output);
+            return output;
 
         } finally {
-            if (channel != null) channel.disconnect();
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+            execChannel.disconnect();
+        }
+    }
+
+    /**
+     * 출력이 끝난(EOF) 뒤 종료 코드를 기다림
+     * 서버는 EOF 다음에 exit-status를 보내므로 보통 수 밀리초 안에 채널이 닫힘
+     */
+    private int awaitExitStatus(ChannelExec execChannel, long deadline) throws JSchException {
+        try {
+            while (!execChannel.isClosed() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(EXIT_STATUS_POLL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JSchException("명령 실행 중 인터럽트 발생", e);
         }
+        return execChannel.getExitStatus();
     }
 
     /**
@@ -288,5 +353,6 @@ public class SSHService {
             }
         }
         activeSessions.clear();
+        commandWatchdog.shutdownNow();
     }
 }
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.backend.sesim.domain.deployment.service;
+
+import com.backend.sesim.domain.deployment.service.SseEmitterRegistry.Topic;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 연결 하나와 전송 대기 큐
+ * 큐는 용량이 정해져 있어 느린 클라이언트가 있어도 메모리가 무한히 늘지 않음 (가득 차면 가장 오래된 이벤트를 버림)
+ */
+@Getter
+@RequiredArgsConstructor
+public class SseConnection {
+
+    private final String id;
+    private final Topic topic;
+    private final Long userId;
+    private final long sequence;
+    private final SseEmitter emitter;
+
+    @Getter(AccessLevel.NONE)
+    private final ArrayDeque<Event> queue = new ArrayDeque<>();
+    // 한 연결은 한 번에 한 스레드만 비움 (이벤트 순서 보장)
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean draining = new AtomicBoolean();
+    // 마지막으로 비운 이후 버려진 이벤트가 있는지
+    @Getter(AccessLevel.NONE)
+    private boolean dropped;
+    // 마지막으로 쓰기에 성공한 시각 - 하트비트가 주기적으로 쓰므로, 오래 갱신되지 않으면 막힌 연결
+    private volatile long lastWrittenAt = System.currentTimeMillis();
+    // Last-Event-ID로 놓친 이벤트를 재전송했는지 (그렇다면 INIT 스냅샷 생략)
+    private volatile boolean replayed;
+
+    /**
+     * 이벤트를 큐에 추가
+     * 병합 키가 같은 이벤트가 대기 중이면 그 이벤트를 대체하고, 큐가 가득 차면 가장 오래된 이벤트를 버림
+     */
+    synchronized OfferResult offer(Event event, int capacity) {
+        if (event.getCoalesceKey() != null) {
+            Iterator<Event> waiting = queue.iterator();
+            while (waiting.hasNext()) {
+                if (event.getCoalesceKey().equals(waiting.next().getCoalesceKey())) {
+                    waiting.remove();
+                    queue.addLast(event);
+                    return OfferResult.COALESCED;
+                }
+            }
+        }
+        OfferResult result = OfferResult.QUEUED;
+        if (queue.size() >= capacity) {
+            queue.pollFirst();
+            dropped = true;
+            result = OfferResult.DROPPED_OLDEST;
+        }
+        queue.addLast(event);
+        return result;
+    }
+
+    synchronized Event poll() {
+        return queue.pollFirst();
+    }
+
+    synchronized int queueSize() {
+        return queue.size();
+    }
+
+    synchronized void clear() {
+        queue.clear();
+    }
+
+    /**
+     * 버려진 이벤트가 있었는지 확인하고 표시를 지움
+     */
+    synchronized boolean takeDropped() {
+        boolean result = dropped;
+        dropped = false;
+        return result;
+    }
+
+    void markWritten() {
+        lastWrittenAt = System.currentTimeMillis();
+    }
+
+    void markReplayed() {
+        replayed = true;
+    }
+
+    boolean startDraining() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void stopDraining() {
+        draining.set(false);
+    }
+
+    enum OfferResult {
+        QUEUED, COALESCED, DROPPED_OLDEST
+    }
+
+    /**
+     * 전송 형식(id:/event:/data: 줄)까지 바이트로 인코딩된 이벤트
+     * 연결이 여러 개여도 한 번만 만들고, 각 연결에는 같은 바이트를 그대로 씀 (연결마다 Jackson 직렬화 없음)
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    static class Event {
+        private final long id;
+        private final String name;
+        private final byte[] frame;
+        private final String coalesceKey;
+
+        /**
+         * @param id 0 이하면 id: 줄을 쓰지 않음 (클라이언트의 Last-Event-ID가 바뀌지 않음)
+         */
+        static Event of(long id, String name, String data, String coalesceKey) {
+            StringBuilder frame = new StringBuilder(data.length() + name.length() + 32);
+            if (id > 0) {
+                frame.append("id:").append(id).append('\n');
+            }
+            frame.append("event:").append(name).append('\n');
+            // 여러 줄 데이터는 줄마다 data: 를 붙임 (SSE 규격)
+            for (String line : data.split("\n", -1)) {
+                frame.append("data:").append(line).append('\n');
+            }
+            frame.append('\n');
+            return new Event(id, name, frame.toString().getBytes(StandardCharsets.UTF_8), coalesceKey);
+        }
+
+        /**
+         * 주석 줄만 있는 이벤트 (클라이언트 EventSource는 무시, 연결 유지/끊김 감지용)
+         */
+        static Event comment(String comment, String coalesceKey) {
+            return new Event(0, comment, (":" + comment + "\n\n").getBytes(StandardCharsets.UTF_8), coalesceKey);
+        }
+
+        /**
+         * 이미 인코딩된 바이트를 그대로 쓰는 전송 항목
+         */
+        Set<ResponseBodyEmitter.DataWithMediaType> toSend() {
+            return Set.of(new ResponseBodyEmitter.DataWithMediaType(frame, MediaType.TEXT_PLAIN));
+        }
+    }
+}
@@ -0,0 +1,552 @@
+package com.backend.sesim.domain.deployment.service;
+
+import com.backend.sesim.domain.deployment.config.SseProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * SSE 이미터 저장소 - 토픽 -> 사용자 ID -> 채널(연결 목록 + 재전송 버퍼)로 색인
+ * 사용자 단위 전송은 해당 사용자의 연결만 보므로 전체 접속 수와 무관
+ * 전송은 호출 스레드에서 한 번만 직렬화/인코딩해 연결별 큐에 넣고, 실제 쓰기는 전용 스레드가 처리
+ * 쓰기는 막힐 수 있으므로(응답이 없는 브라우저 소켓) 전송 풀은 연결 수만큼 늘어나, 막힌 연결이 다른 연결의 전송을 기다리게 하지 않음
+ * 이벤트에는 증가하는 ID를 붙이고 사용자별 최근 이벤트를 보관해, 재연결 시 Last-Event-ID 이후만 다시 보냄
+ * 큐가 넘쳐 이벤트를 버린 연결에는 토픽의 INIT 스냅샷을 다시 보내 클라이언트가 별도 처리 없이 최신 상태를 받음
+ */
+@Component
+@Slf4j
+public class SseEmitterRegistry {
+
+    private static final SseConnection.Event HEARTBEAT_EVENT = SseConnection.Event.comment("heartbeat", "heartbeat");
+
+    // 배포 로그 진행률 - 배포 중 주기적으로 오지만 INIT 스냅샷(단계 상태)에는 반영되지 않으므로 스냅샷 캐시를 무효화하지 않음
+    public static final String EVENT_PROGRESS = "PROGRESS";
+
+    private final SseProperties properties;
+    private final ObjectMapper objectMapper;
+    private final SseSnapshotCache snapshotCache;
+
+    private final Map<Topic, Map<Long, UserChannel>> channels = new EnumMap<>(Topic.class);
+    private final Map<Topic, Counter> droppedCounters = new EnumMap<>(Topic.class);
+    private final Map<Topic, Counter> coalescedCounters = new EnumMap<>(Topic.class);
+    private final Map<Topic, Counter> reapedCounters = new EnumMap<>(Topic.class);
+    // 토픽별 사용자 INIT 스냅샷 조회 (각 SSE 서비스가 시작 시 등록)
+    private final Map<Topic, Function<Long, ?>> snapshotLoaders = new ConcurrentHashMap<>();
+    // 같은 밀리초에 열린 연결도 구분되도록 순번으로 ID 생성
+    private final AtomicLong connectionSequence = new AtomicLong();
+    // 이벤트 ID (SSE id: 줄) - 시작 시각 기준으로 시작해 재시작 이전 프로세스의 ID와 겹치지 않음 (그런 ID는 재전송 대신 INIT)
+    private final AtomicLong eventSequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    // @Async/@Scheduled 기본 풀과 섞이지 않도록 빈으로 등록하지 않고 직접 소유
+    // 연결 하나는 한 번에 한 스레드만 쓰므로 스레드 수는 쓰기 중인 연결 수를 넘지 않음 (쉬는 스레드는 1분 뒤 정리)
+    private final ExecutorService sendExecutor;
+
+    public SseEmitterRegistry(SseProperties properties, ObjectMapper objectMapper, SseSnapshotCache snapshotCache,
+                              MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.snapshotCache = snapshotCache;
+        this.sendExecutor = new ThreadPoolExecutor(properties.getSendPoolSize(), Integer.MAX_VALUE,
+                60, TimeUnit.SECONDS, new SynchronousQueue<>(), new CustomizableThreadFactory("sse-send-"));
+
+        for (Topic topic : Topic.values()) {
+            Map<Long, UserChannel> byUser = new ConcurrentHashMap<>();
+            channels.put(topic, byUser);
+            Gauge.builder("sse.emitters", byUser, SseEmitterRegistry::countAll)
+                    .description("연결된 SSE 이미터 수")
+                    .tag("topic", topic.name())
+                    .register(meterRegistry);
+            Gauge.builder("sse.send.queue.depth", byUser, SseEmitterRegistry::queueDepth)
+                    .description("전송 대기 중인 SSE 이벤트 수")
+                    .tag("topic", topic.name())
+                    .register(meterRegistry);
+            droppedCounters.put(topic, Counter.builder("sse.send.dropped")
+                    .description("큐가 가득 차 버려진 SSE 이벤트 수")
+                    .tag("topic", topic.name())
+                    .register(meterRegistry));
+            coalescedCounters.put(topic, Counter.builder("sse.send.coalesced")
+                    .description("대기 중인 같은 키의 이벤트를 대체한 SSE 이벤트 수")
+                    .tag("topic", topic.name())
+                    .register(meterRegistry));
+            reapedCounters.put(topic, Counter.builder("sse.reaped")
+                    .description("쓰기가 진행되지 않아 정리된 SSE 연결 수")
+                    .tag("topic", topic.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 새 이미터를 만들어 등록 (사용자당 최대 연결 수를 넘으면 가장 오래된 연결을 닫음)
+     *
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID - 보관 중인 이벤트로 메울 수 있으면 이후 이벤트를 재전송하고
+     *                    connection.isReplayed()가 true (호출 측은 INIT 스냅샷을 생략)
+     */
+    public SseConnection register(Topic topic, Long userId, String lastEventId) {
+        return register(topic, userId, lastEventId, new SseEmitter(properties.getTimeoutMillis()));
+    }
+
+    SseConnection register(Topic topic, Long userId, String lastEventId, SseEmitter emitter) {
+        long seq = connectionSequence.incrementAndGet();
+        String emitterId = topic.getPrefix() + "-" + userId + "-" + seq;
+        SseConnection connection = new SseConnection(emitterId, topic, userId, seq, emitter);
+
+        emitter.onCompletion(() -> {
+            remove(connection);
+            log.info("SSE 연결 완료: {}", emitterId);
+        });
+        emitter.onTimeout(() -> {
+            remove(connection);
+            log.info("SSE 연결 타임아웃: {}", emitterId);
+        });
+        emitter.onError(e -> {
+            remove(connection);
+            log.error("SSE 연결 에러: {}", emitterId, e);
+        });
+
+        Long replayFrom = parseEventId(lastEventId);
+        SseConnection[] evicted = new SseConnection[1];
+        // 채널 정리(heartbeat)와 겹치지 않도록 맵의 compute 안에서 등록
+        channels.get(topic).compute(userId, (id, channel) -> {
+            if (channel == null) {
+                channel = new UserChannel(eventSequence.get());
+            }
+            synchronized (channel) {
+                evicted[0] = channel.add(connection, properties.getMaxEmittersPerUser());
+                // 전송(deliver)과 같은 잠금 안에서 재전송하므로, 재전송분과 새 이벤트의 순서/중복이 섞이지 않음
+                if (replayFrom != null && channel.canReplayFrom(replayFrom, eventSequence.get())) {
+                    for (SseConnection.Event event : channel.eventsAfter(replayFrom)) {
+                        enqueue(connection, event);
+                    }
+                    connection.markReplayed();
+                }
+            }
+            return channel;
+        });
+
+        if (evicted[0] != null) {
+            log.info("사용자 {} 최대 SSE 연결 수 초과, 가장 오래된 연결 종료: {}", userId, evicted[0].getId());
+            evicted[0].clear();
+            completeAsync(evicted[0]);
+        }
+        log.info("새로운 SSE 연결 생성: {} (재전송={})", emitterId, connection.isReplayed());
+        return connection;
+    }
+
+    public void remove(SseConnection connection) {
+        UserChannel channel = channels.get(connection.getTopic()).get(connection.getUserId());
+        if (channel != null) {
+            synchronized (channel) {
+                channel.remove(connection);
+            }
+        }
+        connection.clear();
+    }
+
+    /**
+     * 사용자의 해당 토픽 연결에만 이벤트 전송
+     *
+     * @return 전송 큐에 넣은 연결 수
+     */
+    public int sendToUser(Topic topic, Long userId, String eventName, Object data) {
+        return sendToUser(topic, userId, eventName, data, null);
+    }
+
+    /**
+     * @param coalesceKey 같은 키의 이벤트가 아직 대기 중이면 새 이벤트로 대체 (최신 상태만 의미 있는 이벤트용, null이면 병합 안 함)
+     */
+    public int sendToUser(Topic topic, Long userId, String eventName, Object data, String coalesceKey) {
+        if (userId == null) {
+            log.warn("사용자 ID가 null, 이벤트 전송 건너뜀");
+            return 0;
+        }
+        // 이 노드에서만 보내는 경로라 받을 채널이 없으면 직렬화도 생략
+        if (!channels.get(topic).containsKey(userId)) {
+            invalidateSnapshot(topic, userId, eventName);
+            log.info("사용자 {}에게 전송할 이미터 없음", userId);
+            return 0;
+        }
+
+        String payload = toPayload(eventName, data);
+        if (payload == null) {
+            return 0;
+        }
+        return deliver(topic, userId, eventName, payload, coalesceKey, 0);
+    }
+
+    /**
+     * 직렬화가 끝난 이벤트를 이 노드의 연결에 전송 (SseEventBus가 다른 노드에서 받은 이벤트도 이 경로로 전달)
+     *
+     * @param eventId 버스가 붙인 전역 이벤트 ID - 0이면 이 노드에서 발급
+     * @return 전송 큐에 넣은 연결 수
+     */
+    public int deliver(Topic topic, Long userId, String eventName, String payload, String coalesceKey, long eventId) {
+        // 사용자 이벤트는 곧 스냅샷 변경 - 연결 유무와 무관하게 다음 INIT은 새로 만들도록 무효화
+        invalidateSnapshot(topic, userId, eventName);
+
+        // 연결이 없는 노드도 ID는 따라가야, 이후 INIT 스냅샷 ID가 이미 반영된 이벤트보다 작아지지 않음
+        if (eventId > 0) {
+            eventSequence.accumulateAndGet(eventId, Math::max);
+        }
+
+        // 연결이 없어도 채널이 남아 있으면(최근 연결 해제) 재연결 재전송용으로 보관
+        UserChannel channel = channels.get(topic).get(userId);
+        if (channel == null) {
+            log.debug("사용자 {}에게 전송할 이미터 없음", userId);
+            return 0;
+        }
+
+        synchronized (channel) {
+            long id = eventId > 0 ? eventId : eventSequence.incrementAndGet();
+            SseConnection.Event event = SseConnection.Event.of(id, eventName, payload, coalesceKey);
+            channel.remember(event, properties.getReplayBufferSize());
+            for (SseConnection connection : channel.connections.values()) {
+                enqueue(connection, event);
+            }
+            return channel.connections.size();
+        }
+    }
+
+    /**
+     * 이벤트 ID를 버스의 ID 체계로 맞춤 (연결을 받기 전, 버스 초기화 시 한 번)
+     */
+    public void resetEventSequence(long latestEventId) {
+        eventSequence.set(latestEventId);
+    }
+
+    /**
+     * 연결 하나에만 이벤트 전송 (연결 확인 메시지 등 - 재전송 대상 아님)
+     */
+    public void sendTo(SseConnection connection, String eventName, Object data) {
+        String payload = toPayload(eventName, data);
+        if (payload != null) {
+            enqueue(connection, SseConnection.Event.of(0, eventName, payload, null));
+        }
+    }
+
+    /**
+     * 연결 하나에 초기 스냅샷 전송
+     * 지금까지 발급된 마지막 이벤트 ID를 붙여, 재연결 시 이 스냅샷 이후의 이벤트만 재전송되도록 함
+     */
+    public void sendSnapshot(SseConnection connection, String eventName, Object data) {
+        String payload = toPayload(eventName, data);
+        if (payload == null) {
+            return;
+        }
+        UserChannel channel = channels.get(connection.getTopic()).get(connection.getUserId());
+        Object lock = channel != null ? channel : connection;
+        synchronized (lock) {
+            enqueue(connection, SseConnection.Event.of(eventSequence.get(), eventName, payload, null));
+        }
+    }
+
+    /**
+     * 토픽의 INIT 스냅샷 조회 등록 - 이벤트를 버린 연결에 스냅샷을 다시 보낼 때 사용 (전송 스레드에서 호출되므로 사용자 ID로만 조회)
+     */
+    public void registerSnapshotLoader(Topic topic, Function<Long, ?> loader) {
+        snapshotLoaders.put(topic, loader);
+    }
+
+    /**
+     * 사용자의 INIT 스냅샷 JSON (이벤트가 없었으면 캐시된 스냅샷 재사용)
+     */
+    public String loadSnapshot(Topic topic, Long userId) {
+        Function<Long, ?> loader = snapshotLoaders.get(topic);
+        if (loader == null) {
+            throw new IllegalStateException("등록된 SSE 스냅샷 조회 없음: " + topic);
+        }
+        return snapshotCache.get(topic, userId, () -> loader.apply(userId));
+    }
+
+    public int countConnections(Topic topic) {
+        return countAll(channels.get(topic));
+    }
+
+    /**
+     * 하트비트 전송과 막힌 연결/만료된 채널 정리
+     * 프록시가 끊긴 연결은 하트비트 쓰기가 실패하거나 진행되지 않으므로 타임아웃(1시간)을 기다리지 않고 정리됨
+     */
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval-millis:15000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Topic, Map<Long, UserChannel>> topicChannels : channels.entrySet()) {
+            Map<Long, UserChannel> byUser = topicChannels.getValue();
+
+            for (UserChannel channel : byUser.values()) {
+                List<SseConnection> connections;
+                synchronized (channel) {
+                    connections = new ArrayList<>(channel.connections.values());
+                }
+                for (SseConnection connection : connections) {
+                    if (now - connection.getLastWrittenAt() > properties.getIdleTimeoutMillis()) {
+                        reap(connection);
+                    } else {
+                        enqueue(connection, HEARTBEAT_EVENT);
+                    }
+                }
+            }
+
+            // 연결이 모두 끊긴 뒤 보관 기간이 지난 채널은 재전송 버퍼와 함께 제거
+            for (Long userId : byUser.keySet()) {
+                byUser.computeIfPresent(userId, (id, channel) -> {
+                    synchronized (channel) {
+                        return channel.isExpired(now, properties.getReplayRetentionMillis()) ? null : channel;
+                    }
+                });
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sendExecutor.shutdown();
+    }
+
+    /**
+     * 막힌 연결을 저장소에서 빼고, 종료는 전송 스레드에 맡김
+     * complete()는 막힌 쓰기가 쥔 이미터 잠금을 기다리므로 여기(공유 스케줄러 스레드)서 부르면 다른 예약 작업까지 멈춤
+     */
+    private void reap(SseConnection connection) {
+        log.warn("SSE 연결 쓰기가 {}ms 동안 진행되지 않아 정리: {}", properties.getIdleTimeoutMillis(), connection.getId());
+        reapedCounters.get(connection.getTopic()).increment();
+        remove(connection);
+        completeAsync(connection);
+    }
+
+    /**
+     * 전송 스레드에서 이미터 종료 - 쓰기가 막혀 있으면 그 쓰기가 끝나거나 컨테이너 쓰기 타임아웃까지 기다림
+     */
+    private void completeAsync(SseConnection connection) {
+        try {
+            sendExecutor.execute(() -> {
+                try {
+                    connection.getEmitter().complete();
+                } catch (Exception e) {
+                    log.debug("SSE 연결 종료 실패: {}", connection.getId(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중 - 컨테이너가 남은 연결을 닫음
+            log.debug("종료 중이라 SSE 연결 종료 생략: {}", connection.getId());
+        }
+    }
+
+    private void invalidateSnapshot(Topic topic, Long userId, String eventName) {
+        if (!EVENT_PROGRESS.equals(eventName)) {
+            snapshotCache.evict(topic, userId);
+        }
+    }
+
+    private String toPayload(String eventName, Object data) {
+        try {
+            return data instanceof String text ? text : objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            log.error("SSE 이벤트 직렬화 실패: {}", eventName, e);
+            return null;
+        }
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            log.debug("잘못된 Last-Event-ID 무시: {}", lastEventId);
+            return null;
+        }
+    }
+
+    private void enqueue(SseConnection connection, SseConnection.Event event) {
+        switch (connection.offer(event, properties.getQueueCapacity())) {
+            case DROPPED_OLDEST -> {
+                droppedCounters.get(connection.getTopic()).increment();
+                log.warn("SSE 전송 큐 가득 참, 가장 오래된 이벤트 버림: {}", connection.getId());
+            }
+            case COALESCED -> coalescedCounters.get(connection.getTopic()).increment();
+            default -> {
+            }
+        }
+        if (connection.startDraining()) {
+            sendExecutor.execute(() -> drain(connection));
+        }
+    }
+
+    /**
+     * 연결의 큐가 빌 때까지 전송 - 느린 연결은 이 스레드 하나만 붙잡고, 요청/배포 스레드와 다른 연결은 기다리지 않음
+     */
+    private void drain(SseConnection connection) {
+        try {
+            SseConnection.Event event;
+            while ((event = connection.poll()) != null) {
+                // 버려진 이벤트가 있으면 남은 큐 대신 최신 스냅샷을 보냄 (스냅샷 이후 들어온 이벤트는 그 뒤에 이어서 전송)
+                if (connection.takeDropped()) {
+                    resendSnapshot(connection);
+                    continue;
+                }
+                write(connection, event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.error("이벤트 전송 실패: {}", connection.getId(), e);
+            remove(connection);
+        } finally {
+            connection.stopDraining();
+        }
+
+        // 멈추기 직전에 들어온 이벤트가 있으면 다시 예약
+        if (connection.queueSize() > 0 && connection.startDraining()) {
+            sendExecutor.execute(() -> drain(connection));
+        }
+    }
+
+    /**
+     * 큐를 비우고 INIT 스냅샷을 다시 전송
+     * 스냅샷 ID는 조회 전에 정해, 그 ID까지의 이벤트(커밋 후 전달됨)는 모두 스냅샷에 반영되어 있음
+     * 스냅샷을 만들지 못하면 연결을 닫아 클라이언트 재연결(Last-Event-ID 재전송 또는 INIT)로 복구
+     */
+    private void resendSnapshot(SseConnection connection) throws IOException {
+        long snapshotId = eventSequence.get();
+        connection.clear();
+
+        String snapshot;
+        try {
+            snapshot = loadSnapshot(connection.getTopic(), connection.getUserId());
+        } catch (Exception e) {
+            log.error("SSE 스냅샷 재전송 실패, 연결 종료: {}", connection.getId(), e);
+            remove(connection);
+            connection.getEmitter().complete();
+            return;
+        }
+        write(connection, SseConnection.Event.of(snapshotId, "INIT", snapshot, null));
+        log.info("버려진 이벤트 대신 INIT 스냅샷 재전송: {}", connection.getId());
+    }
+
+    private void write(SseConnection connection, SseConnection.Event event) throws IOException {
+        connection.getEmitter().send(event.toSend());
+        connection.markWritten();
+        log.debug("이벤트 {} 전송 성공: {}", event.getName(), connection.getId());
+    }
+
+    private static int countAll(Map<Long, UserChannel> byUser) {
+        int count = 0;
+        for (UserChannel channel : byUser.values()) {
+            count += channel.connections.size();
+        }
+        return count;
+    }
+
+    private static int queueDepth(Map<Long, UserChannel> byUser) {
+        int depth = 0;
+        for (UserChannel channel : byUser.values()) {
+            for (SseConnection connection : channel.connections.values()) {
+                depth += connection.queueSize();
+            }
+        }
+        return depth;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Topic {
+        DEPLOYMENT_STATUS("sse"),
+        API_USAGE("api-usage-sse");
+
+        private final String prefix;
+    }
+
+    /**
+     * 한 사용자의 토픽별 연결 목록과 최근 이벤트 링 버퍼 (변경은 채널 잠금 안에서)
+     */
+    private static class UserChannel {
+        private final Map<String, SseConnection> connections = new ConcurrentHashMap<>();
+        private final ArrayDeque<SseConnection.Event> recentEvents = new ArrayDeque<>();
+        // 이 ID 이하의 이벤트는 버퍼에 없음 (채널 생성 이전이거나 버퍼에서 밀려남)
+        private long replayFloor;
+        private long lastDisconnectedAt = System.currentTimeMillis();
+
+        private UserChannel(long replayFloor) {
+            this.replayFloor = replayFloor;
+        }
+
+        /**
+         * @return 최대 연결 수를 넘어 밀려난 가장 오래된 연결 (없으면 null)
+         */
+        private SseConnection add(SseConnection connection, int maxConnections) {
+            SseConnection evicted = null;
+            if (connections.size() >= maxConnections) {
+                evicted = connections.values().stream()
+                        .min(Comparator.comparingLong(SseConnection::getSequence))
+                        .orElse(null);
+                if (evicted != null) {
+                    connections.remove(evicted.getId());
+                }
+            }
+            connections.put(connection.getId(), connection);
+            return evicted;
+        }
+
+        private void remove(SseConnection connection) {
+            if (connections.remove(connection.getId()) != null && connections.isEmpty()) {
+                lastDisconnectedAt = System.currentTimeMillis();
+            }
+        }
+
+        private void remember(SseConnection.Event event, int capacity) {
+            if (capacity <= 0) {
+                replayFloor = event.getId();
+                return;
+            }
+            if (recentEvents.size() >= capacity) {
+                replayFloor = recentEvents.pollFirst().getId();
+            }
+            recentEvents.addLast(event);
+        }
+
+        private boolean canReplayFrom(long lastEventId, long latestEventId) {
+            return lastEventId >= replayFloor && lastEventId <= latestEventId;
+        }
+
+        private List<SseConnection.Event> eventsAfter(long lastEventId) {
+            // 같은 병합 키는 마지막 이벤트만 재전송
+            Map<Object, SseConnection.Event> events = new LinkedHashMap<>();
+            for (SseConnection.Event event : recentEvents) {
+                if (event.getId() > lastEventId) {
+                    Object key = event.getCoalesceKey() != null ? event.getCoalesceKey() : event.getId();
+                    events.remove(key);
+                    events.put(key, event);
+                }
+            }
+            return new ArrayList<>(events.values());
+        }
+
+        private boolean isExpired(long now, long retentionMillis) {
+            return connections.isEmpty() && now - lastDisconnectedAt > retentionMillis;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.backend.sesim.domain.deployment.service;
+
+import com.backend.sesim.domain.deployment.service.SseEmitterRegistry.Topic;
+
+/**
+ * 사용자 단위 SSE 이벤트를 모든 노드의 연결로 전달하는 버스 (sse.bus.type으로 구현 선택)
+ * 연결이 어느 노드에 붙어 있든 발행한 노드와 무관하게 전달됨
+ */
+public interface SseEventBus {
+
+    /**
+     * @param coalesceKey 같은 키의 이벤트가 아직 대기 중이면 새 이벤트로 대체 (null이면 병합 안 함)
+     */
+    void publish(Topic topic, Long userId, String eventName, Object data, String coalesceKey);
+}
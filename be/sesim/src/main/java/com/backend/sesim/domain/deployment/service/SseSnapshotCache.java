@@ -0,0 +1,68 @@
+package com.backend.sesim.domain.deployment.service;
+
+import com.backend.sesim.domain.deployment.config.SseProperties;
+import com.backend.sesim.domain.deployment.service.SseEmitterRegistry.Topic;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 토픽별 사용자 INIT 스냅샷 캐시 - 직렬화가 끝난 JSON을 보관해 재연결 시 조회/직렬화 없이 전송
+ * STATUS_UPDATE / API_USAGE_UPDATE를 연결에 전달하는 SseEmitterRegistry가 같은 경로에서 무효화 (버스를 쓰면 모든 노드에서)
+ */
+@Component
+@Slf4j
+public class SseSnapshotCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, String> cache;
+
+    public SseSnapshotCache(SseProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getSnapshotCacheMaxSize())
+                .expireAfterWrite(Duration.ofMillis(properties.getSnapshotCacheTtlMillis()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "sseSnapshot");
+    }
+
+    /**
+     * 캐시된 스냅샷 JSON, 없으면 loader로 만들어 보관
+     * 적재 중에 들어온 무효화는 적재가 끝난 뒤 적용되므로, 변경 이전 상태가 남지 않음
+     */
+    public String get(Topic topic, Long userId, Supplier<?> loader) {
+        return cache.get(new Key(topic, userId), key -> serialize(topic, loader.get()));
+    }
+
+    public void evict(Topic topic, Long userId) {
+        cache.invalidate(new Key(topic, userId));
+    }
+
+    private String serialize(Topic topic, Object snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            // 캐시하지 않고 호출 측에서 실패로 처리
+            throw new IllegalStateException("SSE 스냅샷 직렬화 실패: " + topic, e);
+        }
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class Key {
+        private Topic topic;
+        private Long userId;
+    }
+}
@@ -0,0 +1,209 @@
+package com.backend.sesim.domain.deployment.service;
+
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * (호스트, 사용자, 키) 단위로 인증된 SSH 세션을 공유하는 풀
+ * 한 배포의 환경 구축 / Pod 확인 / 정리 단계가 세션 하나를 재사용하고, 명령마다 그 위에 채널만 새로 엶
+ * 세션 생성(EC2 초기화 대기, 연결 재시도)은 SSHService.setupSession이 담당
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SshSessionPool {
+
+    private final SSHService sshService;
+
+    // 반환된 뒤 이 시간 동안 다시 쓰이지 않은 세션은 닫음
+    @Value("${ssh.pool.idle-timeout-millis:300000}")
+    private long idleTimeoutMillis;
+
+    // 이 시간 넘게 쉰 세션은 빌려주기 전에 keepalive로 상태 확인
+    @Value("${ssh.pool.health-check-idle-millis:30000}")
+    private long healthCheckIdleMillis;
+
+    // 호스트당 최대 세션 수 (사용자/키가 다른 세션 합계)
+    @Value("${ssh.pool.max-sessions-per-host:2}")
+    private int maxSessionsPerHost;
+
+    // 연결된 세션의 keepalive 주기 - 응답이 없으면 JSch가 세션을 끊어 다음 대여 때 새로 연결
+    @Value("${ssh.pool.server-alive-interval-millis:15000}")
+    private int serverAliveIntervalMillis;
+
+    // (host, username, 절대 경로 PEM 키) -> 세션
+    private final Map<List<String>, PooledSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * 세션을 빌림 - 같은 키의 정상 세션이 있으면 재사용, 없으면 새로 연결 (같은 키의 동시 요청은 연결 하나를 기다림)
+     * 사용이 끝나면 반드시 release로 반환
+     */
+    public Session acquire(String host, String username, String pemKeyPath) throws JSchException {
+        List<String> key = List.of(host, username, new File(pemKeyPath).getAbsolutePath());
+        while (true) {
+            PooledSession pooled = sessions.computeIfAbsent(key, k -> new PooledSession(host));
+            // 연결(EC2 초기화 대기 포함)이 오래 걸려도 같은 키의 요청만 기다림
+            pooled.lock.lock();
+            try {
+                // 정리 작업이 방금 풀에서 뺀 항목이면 새 항목으로 다시 시도
+                if (pooled.removed) {
+                    continue;
+                }
+
+                if (pooled.session != null && !isHealthy(pooled)) {
+                    log.info("SSH 세션 상태 불량, 다시 연결: {}@{}", username, host);
+                    sshService.disconnect(pooled.session);
+                    pooled.session = null;
+                }
+
+                if (pooled.session == null) {
+                    ensureHostCapacity(host, pooled);
+                    Session session = sshService.setupSession(host, username, pemKeyPath);
+                    session.setServerAliveInterval(serverAliveIntervalMillis);
+                    session.setServerAliveCountMax(3);
+                    pooled.session = session;
+                } else {
+                    log.info("SSH 세션 재사용: {}@{}", username, host);
+                }
+
+                pooled.leases++;
+                pooled.lastUsedAt = System.currentTimeMillis();
+                return pooled.session;
+            } finally {
+                pooled.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 빌린 세션 반환 (연결은 유지) - 풀에 없는 세션이면 바로 닫음
+     */
+    public void release(Session session) {
+        if (session == null) {
+            return;
+        }
+        for (PooledSession pooled : sessions.values()) {
+            // 다른 키가 연결 중(잠금 보유)이어도 기다리지 않도록 세션 비교는 잠금 없이
+            if (pooled.session != session) {
+                continue;
+            }
+            pooled.lock.lock();
+            try {
+                if (pooled.session == session) {
+                    pooled.leases = Math.max(0, pooled.leases - 1);
+                    pooled.lastUsedAt = System.currentTimeMillis();
+                    return;
+                }
+            } finally {
+                pooled.lock.unlock();
+            }
+        }
+        sshService.disconnect(session);
+    }
+
+    /**
+     * 호스트의 쉬고 있는 세션을 모두 닫음 (배포 실행이 끝나 더 쓸 일이 없을 때)
+     */
+    public void evictHost(String host) {
+        evict(pooled -> pooled.host.equals(host));
+    }
+
+    /**
+     * 오래 쉰 세션 정리
+     */
+    @Scheduled(fixedDelayString = "${ssh.pool.eviction-interval-millis:30000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        evict(pooled -> now - pooled.lastUsedAt > idleTimeoutMillis);
+    }
+
+    /**
+     * 조건에 맞는 쉬고 있는 세션을 닫음 - 잠금을 바로 얻지 못한 항목(연결 중/사용 중)은 건너뜀
+     * 대여 중(acquire가 다른 항목의 잠금을 쥔 상태)에도 불리므로 기다리지 않아야 교착이 없음
+     */
+    private void evict(Predicate<PooledSession> condition) {
+        sessions.forEach((key, pooled) -> {
+            if (!pooled.lock.tryLock()) {
+                return;
+            }
+            try {
+                if (pooled.leases > 0 || !condition.test(pooled)) {
+                    return;
+                }
+                pooled.removed = true;
+                sessions.remove(key, pooled);
+                if (pooled.session != null) {
+                    log.info("쉬고 있는 SSH 세션 정리: {}@{}", pooled.session.getUserName(), pooled.host);
+                    sshService.disconnect(pooled.session);
+                    pooled.session = null;
+                }
+            } finally {
+                pooled.lock.unlock();
+            }
+        });
+    }
+
+    private boolean isHealthy(PooledSession pooled) {
+        if (!pooled.session.isConnected()) {
+            return false;
+        }
+        // 다른 작업이 쓰는 중이거나 최근에 쓴 세션은 연결 상태만 확인
+        if (pooled.leases > 0 || System.currentTimeMillis() - pooled.lastUsedAt < healthCheckIdleMillis) {
+            return true;
+        }
+        try {
+            pooled.session.sendKeepAliveMsg();
+            return pooled.session.isConnected();
+        } catch (Exception e) {
+            log.debug("SSH keepalive 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 호스트당 세션 수 제한 - 넘으면 같은 호스트의 쉬고 있는 세션을 먼저 닫고, 그래도 넘으면 실패
+     */
+    private void ensureHostCapacity(String host, PooledSession requester) throws JSchException {
+        if (countHostSessions(host, requester) < maxSessionsPerHost) {
+            return;
+        }
+        evict(pooled -> pooled != requester && pooled.host.equals(host));
+        if (countHostSessions(host, requester) >= maxSessionsPerHost) {
+            throw new JSchException("호스트당 최대 SSH 세션 수(" + maxSessionsPerHost + ")를 초과했습니다: " + host);
+        }
+    }
+
+    private long countHostSessions(String host, PooledSession requester) {
+        return sessions.values().stream()
+                .filter(pooled -> pooled != requester && pooled.host.equals(host) && pooled.session != null)
+                .count();
+    }
+
+    /**
+     * 풀 항목 - 필드 변경은 lock 안에서, session은 잠금 없는 조회(release, 호스트별 개수)를 위해 volatile
+     */
+    private static class PooledSession {
+        private final String host;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Session session;
+        private int leases;
+        private long lastUsedAt = System.currentTimeMillis();
+        private boolean removed;
+
+        private PooledSession(String host) {
+            this.host = host;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.backend.sesim.domain.deployment.entity.DeploymentStep;
 import com.backend.sesim.domain.deployment.entity.Project;
 import com.backend.sesim.domain.deployment.entity.ProjectModelInformation;
 import com.backend.sesim.domain.deployment.entity.RegisterIp;
+import com.backend.sesim.domain.deployment.exception.DeploymentErrorCode;
 import com.backend.sesim.domain.deployment.exception.TerraformErrorCode;
 import com.backend.sesim.domain.deployment.repository.DeploymentStepRepository;
 import com.backend.sesim.domain.deployment.repository.ProjectModelInfoRepository;
@@ -20,6 +21,7 @@ import com.backend.sesim.domain.resourcemanagement.repository.InfrastructureSpec
 import com.backend.sesim.domain.resourcemanagement.repository.ModelRepository;
 import com.backend.sesim.domain.resourcemanagement.repository.RegionRepository;
 import com.backend.sesim.global.exception.GlobalException;
+import com.backend.sesim.global.util.SecurityUtils;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
@@ -52,7 +54,11 @@ public class TerraformService {
     private final RegionRepository regionRepository;
     private final DeploymentStepRepository deploymentStepRepository;
     private final DeploymentService deploymentService;
+    private final DeploymentRunLeaseService deploymentRunLeaseService;
     private final RegisterIpRepository registerIpRepository;
+    private final ProjectModelInfoCache projectModelInfoCache;
+    private final DeploymentStepService deploymentStepService;
+    private final SecurityUtils securityUtils;
 
     /**
      * SaaS 계정에 AWS 리소스를 배포합니다.
@@ -116,6 +122,53 @@ public class TerraformService {
         log.info("배포 요청 완료 - 백그라운드에서 배포 작업이 진행됩니다. 프로젝트 ID: {}", project.getId());
     }
 
+    /**
+     * 실패한 배포를 실패한 단계부터 다시 실행합니다.
+     * 완료된 단계는 체크포인트를 사용하고, 인프라 생성부터 실패했으면 같은 Terraform 상태로 다시 적용합니다.
+     *
+     * @param projectId 재시도할 프로젝트 ID
+     */
+    @Transactional
+    public void retryDeployment(Long projectId) {
+        Project project = projectRepository.findProjectWithRoleArnById(projectId)
+                .orElseThrow(() -> new GlobalException(DeploymentErrorCode.PROJECT_NOT_FOUND));
+
+        // 사용자 접근 권한 확인 (프로젝트 소유자인지)
+        if (!project.getRoleArn().getUser().getId().equals(securityUtils.getCurrentUsersId())) {
+            throw new GlobalException(DeploymentErrorCode.UNAUTHORIZED_PROJECT_ACCESS);
+        }
+
+        // 배포 ID가 기록되지 않은 배포(이 기능 이전에 실패한 배포)는 이어서 진행할 수 없음
+        boolean hasCheckpoint = deploymentStepRepository.findByProjectIdAndStepName(projectId, STEP_INFRASTRUCTURE)
+                .map(DeploymentStep::getCheckpoint)
+                .isPresent();
+        if (!hasCheckpoint) {
+            throw new GlobalException(DeploymentErrorCode.DEPLOYMENT_NOT_RETRYABLE);
+        }
+
+        // 어느 노드에서든 실행이 아직 끝나지 않았으면(독립 작업이 실패와 별개로 진행 중) 그 실행이 끝난 뒤에만 재시도
+        // 점유는 이 트랜잭션과 함께 커밋되므로, 다른 노드로 들어온 동시 재시도는 커밋을 기다린 뒤 실패
+        if (deploymentStepRepository.existsByProjectIdAndStepStatus(projectId, STATUS_DEPLOYING)
+                || !deploymentRunLeaseService.tryAcquire(projectId)) {
+            throw new GlobalException(DeploymentErrorCode.DEPLOYMENT_IN_PROGRESS);
+        }
+
+        // 실패 -> 대기 상태로 되돌림 (조건부 UPDATE라 동시 재시도 요청 중 하나만 성공)
+        if (!deploymentStepService.resetFailedSteps(projectId)) {
+            throw new GlobalException(DeploymentErrorCode.DEPLOYMENT_NOT_RETRYABLE);
+        }
+
+        // 트랜잭션 커밋 후에 비동기 호출이 실행되도록 등록
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deploymentService.retryDeploymentAsync(projectId);
+            }
+        });
+
+        log.info("배포 재시도 요청 완료 - 백그라운드에서 실패한 단계부터 진행됩니다. 프로젝트 ID: {}", projectId);
+    }
+
     /**
      * 모든 배포 단계를 초기화합니다.
      */
@@ -210,6 +263,9 @@ public class TerraformService {
             projectModelInformations.add(projectModelInfoRepository.save(modelInfo));
         }
 
+        // 사용량 적재 경로의 모델 정보 캐시 무효화
+        projectModelInfoCache.evictProject(savedProject.getId());
+
         log.info("모델 정보 DB 저장 완료 - {} 개의 모델 저장됨", projectModelInformations.size());
         return projectModelInformations;
     }
@@ -1,5 +1,7 @@
 package com.backend.sesim.domain.deployment.service;
 
+import com.backend.sesim.domain.deployment.util.TerraformGoldenWorkspace;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -12,8 +14,11 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class TerraformTemplateService {
 
+    private final TerraformGoldenWorkspace goldenWorkspace;
+
     /**
      * SaaS 계정에 배포하기 위한 Terraform 파일을 생성합니다.
      */
@@ -26,7 +31,11 @@ public class TerraformTemplateService {
             Path workspaceDir = Paths.get(workspacePath);
             Files.createDirectories(workspaceDir);
 
+            // 미리 init 해 둔 기준 작업 공간 복사 (프로바이더를 다시 받지 않음)
+            goldenWorkspace.cloneInto(workspaceDir);
+
             // Terraform 파일 생성
+            Files.writeString(workspaceDir.resolve("versions.tf"), goldenWorkspace.createVersionsTemplate());
             Files.writeString(workspaceDir.resolve("provider.tf"), createProviderTemplate());
             Files.writeString(workspaceDir.resolve("variables.tf"), createVariablesTemplate());
             Files.writeString(workspaceDir.resolve("vpc.tf"), createVpcTemplateWithCustomerId(deploymentId, customerId));
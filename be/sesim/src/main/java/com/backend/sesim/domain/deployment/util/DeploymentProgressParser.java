@@ -0,0 +1,56 @@
+package com.backend.sesim.domain.deployment.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Terraform / 원격 명령 출력 한 줄에서 배포 진행 단위를 찾음
+ */
+public final class DeploymentProgressParser {
+
+    // aws_instance.client_nodes[0]: Creation complete after 32s [id=i-0abc]
+    private static final Pattern RESOURCE_CREATED = Pattern.compile("^(\\S+): Creation complete after");
+    // Setting up unzip (6.0-25ubuntu1.1) ...
+    private static final Pattern PACKAGE_INSTALLED = Pattern.compile("^Setting up (\\S+)");
+    // pod/model-server-7d9f condition met
+    private static final Pattern POD_READY = Pattern.compile("^pod/(\\S+) condition met");
+
+    private DeploymentProgressParser() {
+    }
+
+    /**
+     * @return 진행 단위가 아닌 줄이면 null
+     */
+    public static Progress parse(String line) {
+        String trimmed = line.strip();
+        Matcher matcher = RESOURCE_CREATED.matcher(trimmed);
+        if (matcher.find()) {
+            return new Progress(Type.RESOURCE_CREATED, matcher.group(1));
+        }
+        matcher = PACKAGE_INSTALLED.matcher(trimmed);
+        if (matcher.find()) {
+            return new Progress(Type.PACKAGE_INSTALLED, matcher.group(1));
+        }
+        matcher = POD_READY.matcher(trimmed);
+        if (matcher.find()) {
+            return new Progress(Type.POD_READY, matcher.group(1));
+        }
+        return null;
+    }
+
+    public enum Type {
+        RESOURCE_CREATED,
+        PACKAGE_INSTALLED,
+        POD_READY
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Progress {
+        private final Type type;
+        private final String subject;
+    }
+}
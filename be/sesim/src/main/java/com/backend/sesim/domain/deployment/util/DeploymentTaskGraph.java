@@ -0,0 +1,114 @@
+package com.backend.sesim.domain.deployment.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 배포 작업 의존 그래프 - 선행 작업이 모두 끝난 작업부터 executor에서 동시에 실행
+ * 이미 끝난 작업(재시도 시 체크포인트가 있는 단계)은 건너뛰고, 실패한 작업의 후속 작업은 실행하지 않음
+ * 서로 독립인 작업은 한쪽이 실패해도 끝까지 실행되어 자기 결과를 남김
+ */
+@Slf4j
+public class DeploymentTaskGraph {
+
+    private final Map<String, Node> nodes = new LinkedHashMap<>();
+
+    /**
+     * @param dependsOn 먼저 추가된 작업 이름만 가능
+     */
+    public DeploymentTaskGraph add(String name, Task task, String... dependsOn) {
+        for (String dependency : dependsOn) {
+            if (!nodes.containsKey(dependency)) {
+                throw new IllegalArgumentException("선행 작업이 먼저 추가되어야 합니다: " + name + " -> " + dependency);
+            }
+        }
+        nodes.put(name, new Node(name, task, List.of(dependsOn)));
+        return this;
+    }
+
+    /**
+     * 이미 끝난 작업으로 표시 (실행하지 않고 후속 작업의 선행 조건을 만족)
+     */
+    public DeploymentTaskGraph markCompleted(String name) {
+        Node node = nodes.get(name);
+        if (node == null) {
+            throw new IllegalArgumentException("없는 작업입니다: " + name);
+        }
+        node.completed = true;
+        return this;
+    }
+
+    /**
+     * 모든 작업이 끝날 때까지 기다림 (호출 스레드는 대기만 하고 작업은 executor에서 실행)
+     *
+     * @return 모든 작업 성공 여부
+     */
+    public boolean run(Executor executor) {
+        Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        for (Node node : nodes.values()) {
+            CompletableFuture<Void> future;
+            if (node.completed) {
+                log.info("배포 작업 건너뜀 (이미 완료): {}", node.name);
+                future = CompletableFuture.completedFuture(null);
+            } else {
+                CompletableFuture<?>[] dependencies = node.dependsOn.stream()
+                        .map(futures::get)
+                        .toArray(CompletableFuture[]::new);
+                future = CompletableFuture.allOf(dependencies).thenRunAsync(() -> execute(node), executor);
+            }
+            futures.put(node.name, future);
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+            return true;
+        } catch (CompletionException e) {
+            // allOf는 모든 작업이 끝난(성공/실패/취소) 뒤에 완료되므로, 여기서는 진행 중인 작업이 없음
+            List<String> failed = new ArrayList<>();
+            futures.forEach((name, future) -> {
+                if (future.isCompletedExceptionally()) {
+                    failed.add(name);
+                }
+            });
+            log.error("배포 작업 실패 (실패 또는 선행 작업 실패로 건너뜀): {}", failed);
+            return false;
+        }
+    }
+
+    private static void execute(Node node) {
+        log.info("배포 작업 시작: {}", node.name);
+        try {
+            node.task.run();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+        log.info("배포 작업 완료: {}", node.name);
+    }
+
+    @FunctionalInterface
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    private static class Node {
+        private final String name;
+        private final Task task;
+        private final List<String> dependsOn;
+        private boolean completed;
+
+        private Node(String name, Task task, List<String> dependsOn) {
+            this.name = name;
+            this.task = task;
+            this.dependsOn = dependsOn;
+        }
+    }
+}
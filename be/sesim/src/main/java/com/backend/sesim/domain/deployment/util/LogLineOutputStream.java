@@ -0,0 +1,86 @@
+package com.backend.sesim.domain.deployment.util;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 받은 바이트를 줄 단위로 끊어 UTF-8 문자열로 전달하는 스트림
+ * 줄바꿈(0x0A)은 UTF-8 멀티바이트 문자 안에 나오지 않으므로, 청크 경계에서 한글이 잘려도 줄 단위 디코딩은 깨지지 않음
+ * 줄바꿈 없이 계속 쓰는 출력(\r 진행률 표시, 아주 긴 한 줄)도 고정 크기 버퍼 안에서 처리
+ */
+public class LogLineOutputStream extends OutputStream {
+
+    // 한 줄 최대 길이 - 넘으면 문자 경계에서 잘라 여러 줄로 전달
+    static final int MAX_LINE_BYTES = 8192;
+
+    private final Consumer<String> lineConsumer;
+    private final byte[] pending = new byte[MAX_LINE_BYTES];
+    private int length;
+
+    public LogLineOutputStream(Consumer<String> lineConsumer) {
+        this.lineConsumer = lineConsumer;
+    }
+
+    @Override
+    public void write(int b) {
+        if (b == '\n') {
+            emit(length);
+            return;
+        }
+        // \r 뒤에 줄바꿈이 아닌 출력이 오면 진행률 갱신 - 이전 상태는 버리고 마지막 상태만 남김
+        if (length > 0 && pending[length - 1] == '\r') {
+            length = 0;
+        }
+        if (length == MAX_LINE_BYTES) {
+            emit(lastCompleteCharEnd());
+        }
+        pending[length++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            write(bytes[i]);
+        }
+    }
+
+    /**
+     * 줄바꿈 없이 끝난 마지막 줄도 전달
+     */
+    @Override
+    public void close() {
+        if (length > 0) {
+            emit(length);
+        }
+    }
+
+    /**
+     * 앞에서부터 end 바이트를 한 줄로 전달하고 나머지는 다음 줄의 앞부분으로 남김
+     */
+    private void emit(int end) {
+        // CRLF 출력의 \r 제거
+        int lineEnd = end > 0 && pending[end - 1] == '\r' ? end - 1 : end;
+        String line = new String(pending, 0, lineEnd, StandardCharsets.UTF_8);
+        int remaining = length - end;
+        System.arraycopy(pending, end, pending, 0, remaining);
+        length = remaining;
+        lineConsumer.accept(line);
+    }
+
+    /**
+     * 버퍼가 찼을 때 자를 위치 - 마지막 문자가 아직 다 들어오지 않았으면 그 문자의 시작 위치
+     */
+    private int lastCompleteCharEnd() {
+        int start = length - 1;
+        // UTF-8 연속 바이트(10xxxxxx)를 건너뛰어 마지막 문자의 첫 바이트를 찾음 (문자는 최대 4바이트)
+        while (start > 0 && start > length - 4 && (pending[start] & 0xC0) == 0x80) {
+            start--;
+        }
+        int lead = pending[start] & 0xFF;
+        int charLength = lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : lead >= 0xC0 ? 2 : 1;
+        // 잘못된 바이트만 이어진 경우 등 문자 경계를 못 찾으면 버퍼 전체를 전달
+        return start > 0 && start + charLength > length ? start : length;
+    }
+}
@@ -1,7 +1,10 @@
 package com.backend.sesim.domain.deployment.util;
 
+import com.backend.sesim.domain.deployment.config.TerraformProperties;
+import com.backend.sesim.domain.deployment.service.DeploymentLogService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -15,9 +18,12 @@ import java.util.Map;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class TerraformExecutor {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TerraformProperties terraformProperties;
+    private final DeploymentLogService deploymentLogService;
 
     /**
      * Terraform init 및 apply 명령을 실행합니다.
@@ -26,13 +32,13 @@ public class TerraformExecutor {
      * @return 성공 여부
      */
     public boolean runTerraformInitAndApply(Path dirPath) {
-        boolean initSuccess = runCommand("terraform init", dirPath);
+        boolean initSuccess = runTerraformInit(dirPath);
         if (!initSuccess) {
             log.error("Terraform init 실패");
             return false;
         }
 
-        boolean applySuccess = runCommand("terraform apply -auto-approve", dirPath);
+        boolean applySuccess = runCommand("terraform apply -input=false -no-color -auto-approve", dirPath);
         if (!applySuccess) {
             log.error("Terraform apply 실패");
             return false;
@@ -41,6 +47,17 @@ public class TerraformExecutor {
         return true;
     }
 
+    /**
+     * Terraform init 명령을 실행합니다.
+     * 잠금 파일(.terraform.lock.hcl)의 버전으로 설치하며, 이미 설치된 프로바이더는 레지스트리에 접속하지 않고 재사용합니다.
+     *
+     * @param dirPath 작업 디렉토리 경로
+     * @return 성공 여부
+     */
+    public boolean runTerraformInit(Path dirPath) {
+        return runCommand("terraform init -input=false -no-color", dirPath);
+    }
+
     /**
      * Terraform 출력값을 가져옵니다.
      *
@@ -140,6 +157,10 @@ public class TerraformExecutor {
             builder.directory(workingDir.toFile());
             builder.redirectErrorStream(true);
 
+            // 프로바이더를 배포마다 받지 않도록 공유 플러그인 캐시 사용
+            builder.environment().put("TF_PLUGIN_CACHE_DIR", terraformProperties.pluginCachePath().toString());
+            builder.environment().put("TF_IN_AUTOMATION", "true");
+
             log.info("명령어 실행: {} (디렉토리: {})", command, workingDir);
             Process process = builder.start();
 
@@ -148,6 +169,8 @@ public class TerraformExecutor {
             String line;
             while ((line = reader.readLine()) != null) {
                 log.info(line);
+                // 실행 중인 배포 단계가 있으면 배포 로그와 진행 이벤트로도 전달
+                deploymentLogService.append("terraform", line);
             }
 
             int exitCode = process.waitFor();
@@ -0,0 +1,158 @@
+package com.backend.sesim.domain.deployment.util;
+
+import com.backend.sesim.domain.deployment.config.TerraformProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.stream.Stream;
+
+/**
+ * 미리 terraform init 해 둔 기준 작업 공간 (프로바이더 버전 고정 + 잠금 파일)
+ * 배포마다 .terraform 과 .terraform.lock.hcl 을 복사해 두면 배포 작업 공간의 init 은 레지스트리에 접속하지 않고 끝남
+ * 프로바이더 파일 자체는 공유 플러그인 캐시에 한 번만 받고, .terraform 에는 캐시를 가리키는 링크만 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TerraformGoldenWorkspace {
+
+    private static final String VERSIONS_FILE = "versions.tf";
+    private static final String LOCK_FILE = ".terraform.lock.hcl";
+    private static final String DATA_DIR = ".terraform";
+
+    private final TerraformProperties terraformProperties;
+    private final TerraformExecutor terraformExecutor;
+
+    // 마지막으로 init 에 성공한 versions.tf 내용 (null 이면 아직 준비되지 않음)
+    private String preparedVersions;
+
+    /**
+     * 서버 시작 시 미리 준비해 첫 배포도 프로바이더를 기다리지 않도록 함
+     */
+    @Async("deploymentExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!terraformExecutor.isTerraformInstalled()) {
+            log.warn("Terraform이 설치되어 있지 않아 기준 작업 공간을 준비하지 않습니다.");
+            return;
+        }
+        prepare();
+    }
+
+    /**
+     * versions.tf 파일 템플릿을 생성합니다 (사용하는 프로바이더의 버전을 정확히 고정).
+     */
+    public String createVersionsTemplate() {
+        return String.format("""
+        terraform {
+          required_providers {
+            aws = {
+              source  = "hashicorp/aws"
+              version = "%s"
+            }
+            tls = {
+              source  = "hashicorp/tls"
+              version = "%s"
+            }
+            local = {
+              source  = "hashicorp/local"
+              version = "%s"
+            }
+          }
+        }
+        """, terraformProperties.getAwsProviderVersion(), terraformProperties.getTlsProviderVersion(),
+                terraformProperties.getLocalProviderVersion());
+    }
+
+    /**
+     * 작업 디렉토리에 기준 작업 공간의 init 결과를 복사합니다.
+     *
+     * @param workspaceDir 배포 작업 디렉토리 (이미 있어야 함)
+     * @return 복사 여부 - 실패해도 작업 디렉토리의 init 이 공유 캐시를 사용하므로 배포는 계속 가능
+     */
+    public boolean cloneInto(Path workspaceDir) {
+        // 재시도 등으로 이미 init 된 작업 디렉토리는 그대로 사용
+        if (Files.exists(workspaceDir.resolve(DATA_DIR))) {
+            return true;
+        }
+
+        Path golden = prepare();
+        if (golden == null) {
+            return false;
+        }
+
+        try {
+            Files.copy(golden.resolve(LOCK_FILE), workspaceDir.resolve(LOCK_FILE), StandardCopyOption.REPLACE_EXISTING);
+            copyTree(golden.resolve(DATA_DIR), workspaceDir.resolve(DATA_DIR));
+            log.info("기준 작업 공간 복사 완료: {} -> {}", golden, workspaceDir);
+            return true;
+        } catch (IOException e) {
+            log.warn("기준 작업 공간 복사 실패, 일반 init으로 진행: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 기준 작업 공간을 준비합니다 (버전 설정이 바뀌었을 때만 다시 init).
+     *
+     * @return 기준 작업 공간 경로, 준비에 실패하면 null
+     */
+    private synchronized Path prepare() {
+        String versions = createVersionsTemplate();
+        Path golden = terraformProperties.goldenWorkspacePath();
+        if (versions.equals(preparedVersions)) {
+            return golden;
+        }
+
+        try {
+            Files.createDirectories(terraformProperties.pluginCachePath());
+            Files.createDirectories(golden);
+
+            // 버전이 바뀌었으면 이전 잠금 파일과 충돌하므로 삭제
+            Path versionsFile = golden.resolve(VERSIONS_FILE);
+            if (!Files.exists(versionsFile) || !versions.equals(Files.readString(versionsFile))) {
+                Files.deleteIfExists(golden.resolve(LOCK_FILE));
+                Files.writeString(versionsFile, versions);
+            }
+
+            // 잠금 파일이 이미 있으면(이전 실행에서 준비) 레지스트리 접속 없이 끝남
+            if (!terraformExecutor.runTerraformInit(golden)) {
+                log.warn("기준 작업 공간 init 실패: {}", golden);
+                return null;
+            }
+        } catch (IOException e) {
+            log.warn("기준 작업 공간 준비 실패: {}", e.getMessage());
+            return null;
+        }
+
+        preparedVersions = versions;
+        log.info("기준 작업 공간 준비 완료: {} (플러그인 캐시: {})", golden, terraformProperties.pluginCachePath());
+        return golden;
+    }
+
+    /**
+     * 디렉토리 복사 - 링크(플러그인 캐시를 가리킴)는 따라가지 않고 링크 그대로 복사
+     */
+    private static void copyTree(Path source, Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Path destination = target.resolve(source.relativize(path).toString());
+                if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                    Files.createDirectories(destination);
+                } else {
+                    Files.copy(path, destination, LinkOption.NOFOLLOW_LINKS,
+                            StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+}
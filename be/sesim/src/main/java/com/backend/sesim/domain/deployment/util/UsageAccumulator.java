@@ -0,0 +1,271 @@
+package com.backend.sesim.domain.deployment.util;
+
+import com.backend.sesim.domain.deployment.dto.internal.UsageSum;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기간 사용량을 한 번의 순회로 합산하는 누적기
+ * (그룹, 날짜) 칸을 그룹 인덱스 x 날짜 인덱스의 기본형 배열에 모아, 전체/그룹별/일별/월별 합계를 모두 여기서 꺼냄
+ * 그룹은 쿼리에 따라 모델 또는 프로젝트이며, 행 단위로는 객체를 만들지 않음
+ */
+public class UsageAccumulator {
+
+    private final LocalDate startDate;
+    private final long startEpochDay;
+    private final int dayCount;
+
+    // 그룹 ID -> 조밀한 인덱스 (처음 등장한 순서)
+    private final Map<Long, Integer> groupIndexes = new HashMap<>();
+    private final List<Long> groupIds = new ArrayList<>();
+
+    // 그룹별 [날짜 인덱스] 값
+    private final List<int[]> requestCells = new ArrayList<>();
+    private final List<int[]> secondCells = new ArrayList<>();
+    private final List<double[]> costCells = new ArrayList<>();
+    private final List<boolean[]> presentCells = new ArrayList<>();
+
+    // 날짜별 합계
+    private final int[] dayRequests;
+    private final int[] daySeconds;
+    private final double[] dayCosts;
+    private final boolean[] dayPresent;
+
+    public UsageAccumulator(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.startEpochDay = startDate.toEpochDay();
+        this.dayCount = (int) Math.max(0, endDate.toEpochDay() - startEpochDay + 1);
+        this.dayRequests = new int[dayCount];
+        this.daySeconds = new int[dayCount];
+        this.dayCosts = new double[dayCount];
+        this.dayPresent = new boolean[dayCount];
+    }
+
+    public static UsageAccumulator of(LocalDate startDate, LocalDate endDate, List<UsageSum> sums) {
+        UsageAccumulator accumulator = new UsageAccumulator(startDate, endDate);
+        for (UsageSum sum : sums) {
+            accumulator.add(sum.getUsageDate(), sum.getGroupId(), sum.getRequestCount(), sum.getSeconds(),
+                    sum.getCost());
+        }
+        return accumulator;
+    }
+
+    /**
+     * 한 행을 누적 (기간 밖의 날짜는 무시)
+     */
+    public void add(LocalDate date, Long groupId, int requests, int seconds, double cost) {
+        long offset = date.toEpochDay() - startEpochDay;
+        if (offset < 0 || offset >= dayCount) {
+            return;
+        }
+        int day = (int) offset;
+        int group = groupIndex(groupId);
+
+        requestCells.get(group)[day] += requests;
+        secondCells.get(group)[day] += seconds;
+        costCells.get(group)[day] += cost;
+        presentCells.get(group)[day] = true;
+
+        dayRequests[day] += requests;
+        daySeconds[day] += seconds;
+        dayCosts[day] += cost;
+        dayPresent[day] = true;
+    }
+
+    private int groupIndex(Long groupId) {
+        Integer index = groupIndexes.get(groupId);
+        if (index != null) {
+            return index;
+        }
+        int newIndex = groupIds.size();
+        groupIndexes.put(groupId, newIndex);
+        groupIds.add(groupId);
+        requestCells.add(new int[dayCount]);
+        secondCells.add(new int[dayCount]);
+        costCells.add(new double[dayCount]);
+        presentCells.add(new boolean[dayCount]);
+        return newIndex;
+    }
+
+    // === 전체 ===
+
+    public int totalRequests() {
+        int total = 0;
+        for (int value : dayRequests) {
+            total += value;
+        }
+        return total;
+    }
+
+    public int totalSeconds() {
+        int total = 0;
+        for (int value : daySeconds) {
+            total += value;
+        }
+        return total;
+    }
+
+    public double totalCost() {
+        double total = 0;
+        for (double value : dayCosts) {
+            total += value;
+        }
+        return total;
+    }
+
+    // === 그룹 ===
+
+    public int groupCount() {
+        return groupIds.size();
+    }
+
+    public Long groupId(int group) {
+        return groupIds.get(group);
+    }
+
+    public int groupRequests(int group) {
+        return sum(requestCells.get(group), 0, dayCount);
+    }
+
+    public int groupSeconds(int group) {
+        return sum(secondCells.get(group), 0, dayCount);
+    }
+
+    public double groupCost(int group) {
+        return sum(costCells.get(group), 0, dayCount);
+    }
+
+    // === 날짜 ===
+
+    public int dayCount() {
+        return dayCount;
+    }
+
+    public LocalDate date(int day) {
+        return startDate.plusDays(day);
+    }
+
+    /**
+     * 사용 기록이 있는 날짜인지 (기존 응답은 기록이 있는 날짜만 포함)
+     */
+    public boolean hasDay(int day) {
+        return dayPresent[day];
+    }
+
+    public int dayRequests(int day) {
+        return dayRequests[day];
+    }
+
+    public int daySeconds(int day) {
+        return daySeconds[day];
+    }
+
+    public double dayCost(int day) {
+        return dayCosts[day];
+    }
+
+    /**
+     * 해당 날짜에 그룹의 사용 기록이 있는지
+     */
+    public boolean hasCell(int group, int day) {
+        return presentCells.get(group)[day];
+    }
+
+    public int requests(int group, int day) {
+        return requestCells.get(group)[day];
+    }
+
+    public int seconds(int group, int day) {
+        return secondCells.get(group)[day];
+    }
+
+    public double cost(int group, int day) {
+        return costCells.get(group)[day];
+    }
+
+    // === 월 ===
+
+    /**
+     * 기간에 걸친 월 목록 (최신순)
+     */
+    public List<YearMonth> monthsDescending() {
+        List<YearMonth> months = new ArrayList<>();
+        if (dayCount == 0) {
+            return months;
+        }
+        YearMonth first = YearMonth.from(startDate);
+        YearMonth month = YearMonth.from(date(dayCount - 1));
+        while (!month.isBefore(first)) {
+            months.add(month);
+            month = month.minusMonths(1);
+        }
+        return months;
+    }
+
+    /**
+     * 월에 사용 기록이 있는 날짜가 있는지
+     */
+    public boolean hasMonth(YearMonth month) {
+        int from = firstDayOf(month);
+        int to = endDayOf(month);
+        for (int day = from; day < to; day++) {
+            if (dayPresent[day]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean hasMonthCell(int group, YearMonth month) {
+        int from = firstDayOf(month);
+        int to = endDayOf(month);
+        for (int day = from; day < to; day++) {
+            if (hasCell(group, day)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int monthRequests(int group, YearMonth month) {
+        return sum(requestCells.get(group), firstDayOf(month), endDayOf(month));
+    }
+
+    public int monthSeconds(int group, YearMonth month) {
+        return sum(secondCells.get(group), firstDayOf(month), endDayOf(month));
+    }
+
+    public double monthCost(int group, YearMonth month) {
+        return sum(costCells.get(group), firstDayOf(month), endDayOf(month));
+    }
+
+    private int firstDayOf(YearMonth month) {
+        return (int) Math.max(0, month.atDay(1).toEpochDay() - startEpochDay);
+    }
+
+    // 배타적 끝 인덱스
+    private int endDayOf(YearMonth month) {
+        return (int) Math.min(dayCount, month.atEndOfMonth().toEpochDay() - startEpochDay + 1);
+    }
+
+    private static int sum(int[] values, int from, int to) {
+        int total = 0;
+        for (int i = from; i < to; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+
+    private static double sum(double[] values, int from, int to) {
+        double total = 0;
+        for (int i = from; i < to; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+}
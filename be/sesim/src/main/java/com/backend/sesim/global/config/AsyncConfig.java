@@ -26,4 +26,37 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * 배포 단계 변경 알림(STATUS_UPDATE) 전용 - 배포 작업 스레드가 알림 처리를 기다리지 않도록 분리
+     * 같은 프로젝트의 알림 순서를 지키기 위해 스레드 하나
+     * 큐 크기는 제한하지 않음 - DeploymentStepNotificationListener가 프로젝트별로 병합해 프로젝트당 작업이 최대 하나
+     */
+    @Bean(name = "deploymentNotificationExecutor")
+    public Executor deploymentNotificationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("deployment-notify-");
+
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 배포 단계 그래프(DeploymentTaskGraph)의 각 작업 실행용 - deploymentExecutor 스레드가 작업 완료를 기다리므로 풀을 분리
+     * 큐 없이 바로 스레드를 늘리고, 넘치면 선행 작업을 끝낸 스레드가 직접 실행
+     */
+    @Bean(name = "deploymentTaskExecutor")
+    public Executor deploymentTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(10);
+        executor.setMaxPoolSize(20);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("deployment-task-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+        executor.initialize();
+        return executor;
+    }
+}
@@ -2,6 +2,7 @@ package com.backend.sesim.global.security.config;
 
 import com.backend.sesim.global.security.filter.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -20,6 +21,13 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CorsConfigurationSource corsConfigurationSource;
 
+    // 관리 포트 (actuator 전용, 외부에 공개하지 않음)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
     //패스워드 암호화
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -54,10 +62,16 @@ public class SecurityConfig {
                 // URL 별 접근 권한 설정
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(SecurityPath.getAllPublicPaths()).permitAll()
+                        // actuator는 서비스 포트와 분리된 관리 포트로 들어온 요청만 허용
+                        .requestMatchers(request -> isManagementPortRequest(request.getLocalPort())).permitAll()
                         .anyRequest().authenticated()
                 );
         // 최종적으로 구성된 보안 필터 체인을 빌드해서 반환해요
         // 이제 모든 HTTP 요청은 이 필터 체인을 통과
         return http.build();
     }
+
+    private boolean isManagementPortRequest(int localPort) {
+        return managementPort > 0 && managementPort != serverPort && localPort == managementPort;
+    }
 }
@@ -34,6 +34,7 @@ public enum SecurityPath {
 
     // Api 사용량 업데이트 관련 경로
     UPDATE_API_USAGE("/api/deployment/api-usage"),
+    UPDATE_API_USAGE_BULK("/api/deployment/api-usage/bulk"),
 
     // Health check 관련 경로
     HEALTH("/health");
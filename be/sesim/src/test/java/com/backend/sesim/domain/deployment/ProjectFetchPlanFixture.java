@@ -0,0 +1,98 @@
+package com.backend.sesim.domain.deployment;
+
+import java.util.function.Consumer;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.backend.sesim.domain.deployment.entity.Project;
+import com.backend.sesim.domain.deployment.entity.ProjectModelInformation;
+import com.backend.sesim.domain.iam.entity.RoleArn;
+import com.backend.sesim.domain.resourcemanagement.entity.InfrastructureSpec;
+import com.backend.sesim.domain.resourcemanagement.entity.Model;
+import com.backend.sesim.domain.resourcemanagement.entity.Region;
+import com.backend.sesim.domain.user.entity.User;
+
+import lombok.Getter;
+
+/**
+ * 조회 계획(쿼리 수) 테스트용 데이터 - 사용자 한 명의 프로젝트 PROJECT_COUNT개, 프로젝트마다 모델 정보 MODEL_COUNT개
+ */
+@Getter
+public class ProjectFetchPlanFixture {
+
+	public static final int PROJECT_COUNT = 5;
+	public static final int MODEL_COUNT = 3;
+
+	private final User user;
+	private final RoleArn roleArn;
+
+	private ProjectFetchPlanFixture(User user, RoleArn roleArn) {
+		this.user = user;
+		this.roleArn = roleArn;
+	}
+
+	/**
+	 * 데이터를 저장하고 영속성 컨텍스트를 비움 (이후 조회가 모두 SQL로 실행되도록)
+	 *
+	 * @param perProject 프로젝트마다 추가로 저장할 데이터 (배포 단계, 허용 IP 등)
+	 */
+	public static ProjectFetchPlanFixture persist(TestEntityManager em, Consumer<Project> perProject) {
+		User user = em.persist(User.builder()
+			.email("fetch-plan@sesim.com")
+			.password("password")
+			.nickname("fetch-plan")
+			.build());
+		RoleArn roleArn = em.persist(RoleArn.builder()
+			.user(user)
+			.roleArn("arn:aws:iam::123456789012:role/sesim")
+			.build());
+		Region region = em.persist(Region.builder().name("서울").code("ap-northeast-2").build());
+		InfrastructureSpec spec = em.persist(InfrastructureSpec.builder()
+			.ec2Spec("t3.medium")
+			.ec2Info("2 vCPU, 4GiB")
+			.specPricePerHour(0.05)
+			.build());
+
+		for (int p = 0; p < PROJECT_COUNT; p++) {
+			Project project = em.persist(Project.builder()
+				.roleArn(roleArn)
+				.name("project-" + p)
+				.build());
+			perProject.accept(project);
+			for (int m = 0; m < MODEL_COUNT; m++) {
+				Model model = em.persist(Model.builder()
+					.name("model-" + p + "-" + m)
+					.shortDescription("first line\nsecond line")
+					.featureSummary("summary")
+					.featureOverview("overview")
+					.featureDetail("detail")
+					.version("1.0")
+					.framework("pytorch")
+					.modelPricePerHour(1.0 + m)
+					.grafanaModelUrl("http://grafana")
+					.build());
+				em.persist(ProjectModelInformation.builder()
+					.project(project)
+					.model(model)
+					.spec(spec)
+					.region(region)
+					.build());
+			}
+		}
+		em.flush();
+		em.clear();
+		return new ProjectFetchPlanFixture(user, roleArn);
+	}
+
+	/**
+	 * 실행된 SQL 수를 세는 Hibernate 통계 (테스트 프로필에서 generate_statistics 활성화)
+	 */
+	public static Statistics statistics(TestEntityManager em) {
+		return em.getEntityManager()
+			.getEntityManagerFactory()
+			.unwrap(SessionFactory.class)
+			.getStatistics();
+	}
+}
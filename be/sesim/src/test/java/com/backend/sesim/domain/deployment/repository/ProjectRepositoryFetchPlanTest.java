@@ -0,0 +1,57 @@
+package com.backend.sesim.domain.deployment.repository;
+
+import static com.backend.sesim.domain.deployment.ProjectFetchPlanFixture.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.backend.sesim.domain.deployment.ProjectFetchPlanFixture;
+import com.backend.sesim.domain.deployment.entity.Project;
+import com.backend.sesim.domain.iam.entity.RoleArn;
+
+/**
+ * 요금 계산에 쓰이는 프로젝트 조회가 프로젝트/모델 수와 무관하게 한 번의 SQL로 끝나는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProjectRepositoryFetchPlanTest {
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	private RoleArn roleArn;
+
+	@BeforeEach
+	void setUp() {
+		roleArn = ProjectFetchPlanFixture.persist(em, project -> { }).getRoleArn();
+	}
+
+	@Test
+	void 모델_정보와_요금_계산에_필요한_연관을_한_번의_쿼리로_조회한다() {
+		Statistics statistics = statistics(em);
+		statistics.clear();
+
+		List<Project> projects = projectRepository.findAllWithModelInformationsByRoleArnIn(List.of(roleArn));
+		double totalRate = projects.stream()
+			.flatMap(project -> project.getModelInformations().stream())
+			.mapToDouble(info -> info.getModel().getModelPricePerHour() + info.getSpec().getSpecPricePerHour())
+			.sum();
+
+		assertThat(projects).hasSize(PROJECT_COUNT);
+		assertThat(totalRate).isPositive();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+}
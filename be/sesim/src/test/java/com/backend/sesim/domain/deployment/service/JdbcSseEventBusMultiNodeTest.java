@@ -0,0 +1,209 @@
+package com.backend.sesim.domain.deployment.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.backend.sesim.domain.deployment.config.SseProperties;
+import com.backend.sesim.domain.deployment.entity.SseBusEvent;
+import com.backend.sesim.domain.deployment.repository.SseBusEventJdbcRepository;
+import com.backend.sesim.domain.deployment.service.SseEmitterRegistry.Topic;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 같은 DB를 보는 두 애플리케이션 컨텍스트(노드)로 JDBC 이벤트 버스 검증
+ * 각 노드의 SseEmitterRegistry는 목으로 두고, 버스가 전달(deliver)한 이벤트만 확인
+ */
+class JdbcSseEventBusMultiNodeTest {
+
+	private static final AtomicInteger DATABASE_SEQUENCE = new AtomicInteger();
+	private static final long TIMEOUT_MILLIS = 5_000;
+
+	private String url;
+	private LocalContainerEntityManagerFactoryBean schema;
+	private AnnotationConfigApplicationContext nodeA;
+	private AnnotationConfigApplicationContext nodeB;
+
+	@BeforeEach
+	void setUp() {
+		url = "jdbc:h2:mem:sse-bus-" + DATABASE_SEQUENCE.incrementAndGet()
+			+ ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+		schema = createSchema(url);
+
+		nodeA = startNode(url);
+		nodeB = startNode(url);
+	}
+
+	@AfterEach
+	void tearDown() {
+		nodeA.close();
+		nodeB.close();
+		schema.destroy();
+	}
+
+	@Test
+	void 한_노드에서_발행한_이벤트가_모든_노드에_같은_ID로_전달된다() {
+		bus(nodeA).publish(Topic.API_USAGE, 7L, "API_USAGE_UPDATE", Map.of("delta", 1), null);
+
+		long idOnA = deliveredIds(nodeA, Topic.API_USAGE, 7L, "API_USAGE_UPDATE", "{\"delta\":1}", 1).get(0);
+		long idOnB = deliveredIds(nodeB, Topic.API_USAGE, 7L, "API_USAGE_UPDATE", "{\"delta\":1}", 1).get(0);
+
+		assertThat(idOnA).isPositive().isEqualTo(idOnB);
+	}
+
+	@Test
+	void 여러_노드가_발행한_이벤트가_노드마다_같은_순서로_전달된다() {
+		bus(nodeA).publish(Topic.DEPLOYMENT_STATUS, 3L, "STATUS_UPDATE", "first", "STATUS_UPDATE-1");
+		bus(nodeB).publish(Topic.DEPLOYMENT_STATUS, 3L, "STATUS_UPDATE", "second", "STATUS_UPDATE-1");
+
+		ArgumentCaptor<String> payloadsOnA = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<String> payloadsOnB = ArgumentCaptor.forClass(String.class);
+		verify(registry(nodeA), timeout(TIMEOUT_MILLIS).times(2)).deliver(eq(Topic.DEPLOYMENT_STATUS), eq(3L),
+			eq("STATUS_UPDATE"), payloadsOnA.capture(), eq("STATUS_UPDATE-1"), anyLong());
+		verify(registry(nodeB), timeout(TIMEOUT_MILLIS).times(2)).deliver(eq(Topic.DEPLOYMENT_STATUS), eq(3L),
+			eq("STATUS_UPDATE"), payloadsOnB.capture(), eq("STATUS_UPDATE-1"), anyLong());
+
+		assertThat(payloadsOnA.getAllValues()).containsExactly("first", "second");
+		assertThat(payloadsOnB.getAllValues()).containsExactly("first", "second");
+	}
+
+	@Test
+	void 커서보다_늦게_커밋된_작은_ID의_이벤트도_전달된다() {
+		// 먼저 받은 ID가 더 작은 ID를 건너뛴 상황 - 트랜잭션 A가 ID를 받고 B보다 늦게 커밋한 경우
+		insertWithId(3, "late-committed-later");
+		verify(registry(nodeB), timeout(TIMEOUT_MILLIS)).deliver(any(), anyLong(), anyString(),
+			eq("late-committed-later"), isNull(), eq(3L));
+
+		insertWithId(2, "late-committed");
+		verify(registry(nodeB), timeout(TIMEOUT_MILLIS)).deliver(any(), anyLong(), anyString(),
+			eq("late-committed"), isNull(), eq(2L));
+	}
+
+	@Test
+	void 노드가_시작할_때_이미_있던_이벤트는_다시_전달하지_않는다() {
+		bus(nodeA).publish(Topic.API_USAGE, 7L, "API_USAGE_UPDATE", "before", null);
+		deliveredIds(nodeA, Topic.API_USAGE, 7L, "API_USAGE_UPDATE", "before", 1);
+
+		try (AnnotationConfigApplicationContext nodeC = startNode(url)) {
+			bus(nodeA).publish(Topic.API_USAGE, 7L, "API_USAGE_UPDATE", "after", null);
+
+			deliveredIds(nodeC, Topic.API_USAGE, 7L, "API_USAGE_UPDATE", "after", 1);
+			verify(registry(nodeC), never()).deliver(any(), anyLong(), anyString(), eq("before"), any(), anyLong());
+		}
+	}
+
+	private List<Long> deliveredIds(AnnotationConfigApplicationContext node, Topic topic, Long userId,
+		String eventName, String payload, int times) {
+		ArgumentCaptor<Long> eventIds = ArgumentCaptor.forClass(Long.class);
+		verify(registry(node), timeout(TIMEOUT_MILLIS).times(times)).deliver(eq(topic), eq(userId), eq(eventName),
+			eq(payload), isNull(), eventIds.capture());
+		return eventIds.getAllValues();
+	}
+
+	private void insertWithId(long eventId, String payload) {
+		jdbcTemplate().update("""
+			INSERT INTO sse_bus_event (event_id, topic, user_id, event_name, payload, created_at)
+			VALUES (?, 'API_USAGE', 7, 'API_USAGE_UPDATE', ?, CURRENT_TIMESTAMP(3))
+			""", eventId, payload);
+	}
+
+	/**
+	 * 운영과 같은 경로(SseBusEvent 엔티티 매핑)로 테이블 생성 - 노드마다가 아니라 테스트마다 한 번 (destroy 시 삭제)
+	 */
+	private static LocalContainerEntityManagerFactoryBean createSchema(String url) {
+		LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+		factory.setDataSource(new DriverManagerDataSource(url, "sa", ""));
+		factory.setManagedTypes(PersistenceManagedTypes.of(SseBusEvent.class.getName()));
+		factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+		factory.setJpaPropertyMap(Map.of(
+			"hibernate.hbm2ddl.auto", "create-drop",
+			"hibernate.dialect", "org.hibernate.dialect.H2Dialect"));
+		factory.afterPropertiesSet();
+		return factory;
+	}
+
+	private JdbcTemplate jdbcTemplate() {
+		return new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+	}
+
+	private static AnnotationConfigApplicationContext startNode(String url) {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("node", Map.of(
+			"sse.bus.type", "jdbc",
+			"sse.bus.poll-interval-millis", "50",
+			"node.datasource.url", url)));
+		context.register(NodeConfig.class);
+		context.refresh();
+		return context;
+	}
+
+	private static SseEventBus bus(AnnotationConfigApplicationContext node) {
+		return node.getBean(SseEventBus.class);
+	}
+
+	private static SseEmitterRegistry registry(AnnotationConfigApplicationContext node) {
+		return node.getBean(SseEmitterRegistry.class);
+	}
+
+	/**
+	 * 노드 하나 - 버스와 저장소만 올리고 나머지는 최소 구성
+	 */
+	@Configuration
+	@EnableScheduling
+	@Import({JdbcSseEventBus.class, InJvmSseEventBus.class, SseBusEventJdbcRepository.class})
+	static class NodeConfig {
+
+		@Bean
+		DataSource dataSource(Environment environment) {
+			return new DriverManagerDataSource(environment.getRequiredProperty("node.datasource.url"), "sa", "");
+		}
+
+		@Bean
+		NamedParameterJdbcTemplate namedParameterJdbcTemplate(DataSource dataSource) {
+			return new NamedParameterJdbcTemplate(dataSource);
+		}
+
+		@Bean
+		SseProperties sseProperties() {
+			SseProperties properties = new SseProperties();
+			properties.getBus().setType("jdbc");
+			properties.getBus().setPollIntervalMillis(50);
+			properties.getBus().setGapTimeoutMillis(TIMEOUT_MILLIS);
+			return properties;
+		}
+
+		@Bean
+		ObjectMapper objectMapper() {
+			return new ObjectMapper();
+		}
+
+		@Bean
+		SseEmitterRegistry sseEmitterRegistry() {
+			return mock(SseEmitterRegistry.class);
+		}
+	}
+}
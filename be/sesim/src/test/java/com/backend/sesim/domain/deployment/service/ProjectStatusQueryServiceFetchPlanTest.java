@@ -0,0 +1,76 @@
+package com.backend.sesim.domain.deployment.service;
+
+import static com.backend.sesim.domain.deployment.ProjectFetchPlanFixture.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.backend.sesim.domain.deployment.ProjectFetchPlanFixture;
+import com.backend.sesim.domain.deployment.dto.response.ProjectStatusResponse;
+import com.backend.sesim.domain.deployment.entity.DeploymentStep;
+import com.backend.sesim.domain.deployment.entity.RegisterIp;
+
+/**
+ * 배포 상태 스냅샷 조회가 프로젝트 수와 무관하게 프로젝트 조회 1 + IN 쿼리 3으로 끝나는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ProjectStatusQueryService.class)
+class ProjectStatusQueryServiceFetchPlanTest {
+
+	private static final String[] STEP_NAMES = {"INFRASTRUCTURE", "SERVER", "COMPLETION"};
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private ProjectStatusQueryService projectStatusQueryService;
+
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		userId = ProjectFetchPlanFixture.persist(em, project -> {
+			for (int s = 0; s < STEP_NAMES.length; s++) {
+				em.persist(DeploymentStep.builder()
+					.project(project)
+					.stepOrder(s + 1)
+					.stepName(STEP_NAMES[s])
+					.stepStatus("DEPLOYED")
+					.build());
+			}
+			em.persist(RegisterIp.builder().project(project).ipNumber("10.0.0." + project.getId()).build());
+		}).getUser().getId();
+	}
+
+	@Test
+	void 사용자의_모든_프로젝트_상태를_프로젝트_수와_무관한_쿼리_수로_조회한다() {
+		Statistics statistics = statistics(em);
+		statistics.clear();
+
+		List<ProjectStatusResponse> statuses = projectStatusQueryService.getUserProjectStatuses(userId);
+
+		assertThat(statuses).hasSize(PROJECT_COUNT);
+		assertThat(statuses).allSatisfy(status -> {
+			assertThat(status.isDeployed()).isTrue();
+			assertThat(status.getSteps()).extracting(ProjectStatusResponse.StepStatus::getStepName)
+				.containsExactly(STEP_NAMES);
+			assertThat(status.getAllowedIps()).hasSize(1);
+			assertThat(status.getModels()).hasSize(MODEL_COUNT)
+				.allSatisfy(model -> assertThat(model.getDescription()).isEqualTo("first line"));
+		});
+		// 프로젝트 조회 1 + 단계/모델 정보(+모델)/허용 IP IN 쿼리 3
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+	}
+}
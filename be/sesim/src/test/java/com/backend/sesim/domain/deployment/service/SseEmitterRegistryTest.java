@@ -0,0 +1,90 @@
+package com.backend.sesim.domain.deployment.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.backend.sesim.domain.deployment.config.SseProperties;
+import com.backend.sesim.domain.deployment.service.SseEmitterRegistry.Topic;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 쓰기가 막힌 SSE 연결이 다른 사용자의 이벤트 전송을 붙잡지 않는지 검증
+ */
+class SseEmitterRegistryTest {
+
+	private final CountDownLatch releaseStalled = new CountDownLatch(1);
+	private SseEmitterRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		SseProperties properties = new SseProperties();
+		// 고정 크기 풀이었다면 막힌 연결 하나가 유일한 전송 스레드를 붙잡는 설정
+		properties.setSendPoolSize(1);
+		ObjectMapper objectMapper = new ObjectMapper();
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		registry = new SseEmitterRegistry(properties, objectMapper,
+			new SseSnapshotCache(properties, objectMapper, meterRegistry), meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		releaseStalled.countDown();
+		registry.shutdown();
+	}
+
+	@Test
+	void 쓰기가_막힌_연결이_있어도_다른_사용자의_이벤트는_바로_전송된다() throws InterruptedException {
+		CountDownLatch stalled = new CountDownLatch(1);
+		registry.register(Topic.API_USAGE, 1L, null, new StubEmitter(() -> {
+			stalled.countDown();
+			releaseStalled.await(10, TimeUnit.SECONDS);
+		}));
+		CountDownLatch delivered = new CountDownLatch(1);
+		registry.register(Topic.API_USAGE, 2L, null, new StubEmitter(delivered::countDown));
+
+		registry.sendToUser(Topic.API_USAGE, 1L, "API_USAGE_UPDATE", "stalled");
+		assertThat(stalled.await(5, TimeUnit.SECONDS)).isTrue();
+		registry.sendToUser(Topic.API_USAGE, 2L, "API_USAGE_UPDATE", "delivered");
+
+		assertThat(delivered.await(1, TimeUnit.SECONDS)).isTrue();
+	}
+
+	/**
+	 * 쓰기마다 주어진 동작을 실행하는 이미터 (응답 없는 소켓은 동작 안에서 기다려 흉내 냄)
+	 */
+	private static class StubEmitter extends SseEmitter {
+
+		private final Write write;
+
+		private StubEmitter(Write write) {
+			this.write = write;
+		}
+
+		@Override
+		public void send(Set<DataWithMediaType> items) throws IOException {
+			try {
+				write.run();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			}
+		}
+	}
+
+	@FunctionalInterface
+	private interface Write {
+		void run() throws InterruptedException;
+	}
+}
@@ -0,0 +1,84 @@
+package com.backend.sesim.domain.deployment.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 배포 작업 그래프가 독립 작업은 동시에, 후속 작업은 선행 작업이 끝난 뒤에만 실행하는지 검증
+ */
+class DeploymentTaskGraphTest {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void 서로_독립인_작업은_동시에_실행된다() {
+		// 두 작업이 서로를 기다리므로 순차 실행이면 시간 초과로 실패
+		CountDownLatch bothStarted = new CountDownLatch(2);
+		DeploymentTaskGraph.Task awaitOther = () -> {
+			bothStarted.countDown();
+			if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("다른 작업이 시작되지 않음");
+			}
+		};
+
+		boolean success = new DeploymentTaskGraph()
+			.add("TERRAFORM", awaitOther)
+			.add("SETUP_BUNDLE", awaitOther)
+			.run(executor);
+
+		assertThat(success).isTrue();
+	}
+
+	@Test
+	void 실패한_작업의_후속_작업은_실행되지_않고_독립_작업은_끝까지_실행된다() {
+		List<String> executed = new CopyOnWriteArrayList<>();
+
+		boolean success = new DeploymentTaskGraph()
+			.add("INFRASTRUCTURE", () -> {
+				throw new IllegalStateException("terraform 실패");
+			})
+			.add("SETUP_BUNDLE", () -> executed.add("SETUP_BUNDLE"))
+			.add("ENVIRONMENT", () -> executed.add("ENVIRONMENT"), "INFRASTRUCTURE", "SETUP_BUNDLE")
+			.run(executor);
+
+		assertThat(success).isFalse();
+		assertThat(executed).containsExactly("SETUP_BUNDLE");
+	}
+
+	@Test
+	void 완료로_표시한_작업은_건너뛰고_후속_작업부터_실행한다() {
+		List<String> executed = new CopyOnWriteArrayList<>();
+
+		boolean success = new DeploymentTaskGraph()
+			.add("INFRASTRUCTURE", () -> executed.add("INFRASTRUCTURE"))
+			.add("ENVIRONMENT", () -> executed.add("ENVIRONMENT"), "INFRASTRUCTURE")
+			.add("SERVER_DEPLOYMENT", () -> executed.add("SERVER_DEPLOYMENT"), "ENVIRONMENT")
+			.markCompleted("INFRASTRUCTURE")
+			.run(executor);
+
+		assertThat(success).isTrue();
+		assertThat(executed).containsExactly("ENVIRONMENT", "SERVER_DEPLOYMENT");
+	}
+
+	@Test
+	void 선행_작업은_먼저_추가되어야_한다() {
+		DeploymentTaskGraph graph = new DeploymentTaskGraph();
+
+		assertThatThrownBy(() -> graph.add("ENVIRONMENT", () -> { }, "INFRASTRUCTURE"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,76 @@
+package com.backend.sesim.domain.deployment.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 원격 명령 출력이 임의의 청크로 나뉘어 들어와도 줄과 UTF-8 문자가 깨지지 않는지 검증
+ */
+class LogLineOutputStreamTest {
+
+	@Test
+	void 청크_경계에서_잘린_한글도_줄_단위로_복원된다() {
+		List<String> lines = new ArrayList<>();
+		byte[] output = "설치 완료\nSetting up unzip (6.0)\n마지막 줄".getBytes(StandardCharsets.UTF_8);
+
+		try (LogLineOutputStream stream = new LogLineOutputStream(lines::add)) {
+			// 1바이트씩 나눠 써서 모든 멀티바이트 문자가 청크 경계에서 잘리게 함
+			for (int i = 0; i < output.length; i++) {
+				stream.write(output, i, 1);
+			}
+		}
+
+		assertThat(lines).containsExactly("설치 완료", "Setting up unzip (6.0)", "마지막 줄");
+	}
+
+	@Test
+	void CRLF와_진행률_갱신은_마지막_상태만_남긴다() {
+		List<String> lines = new ArrayList<>();
+		byte[] output = "Reading lists 10%\rReading lists 100%\r\nDone\r\n".getBytes(StandardCharsets.UTF_8);
+
+		try (LogLineOutputStream stream = new LogLineOutputStream(lines::add)) {
+			stream.write(output, 0, output.length);
+		}
+
+		assertThat(lines).containsExactly("Reading lists 100%", "Done");
+	}
+
+	@Test
+	void 줄바꿈_없는_진행률_갱신이_계속돼도_마지막_상태만_남는다() {
+		List<String> lines = new ArrayList<>();
+
+		try (LogLineOutputStream stream = new LogLineOutputStream(lines::add)) {
+			// 진행률만 버퍼 크기보다 훨씬 많이 보내도 중간 상태가 줄로 나오지 않아야 함
+			for (int i = 0; i < 10_000; i++) {
+				byte[] progress = ("Downloading " + (i % 100) + "%\r").getBytes(StandardCharsets.UTF_8);
+				stream.write(progress, 0, progress.length);
+			}
+			byte[] done = "Downloading 100%\n".getBytes(StandardCharsets.UTF_8);
+			stream.write(done, 0, done.length);
+		}
+
+		assertThat(lines).containsExactly("Downloading 100%");
+	}
+
+	@Test
+	void 최대_길이를_넘는_줄은_문자를_깨지_않고_나눠서_전달한다() {
+		List<String> lines = new ArrayList<>();
+		// 3바이트 문자가 버퍼 경계에 걸치도록 앞에 1바이트를 둠
+		String longLine = "a" + "설".repeat(LogLineOutputStream.MAX_LINE_BYTES);
+		byte[] output = (longLine + "\n").getBytes(StandardCharsets.UTF_8);
+
+		try (LogLineOutputStream stream = new LogLineOutputStream(lines::add)) {
+			stream.write(output, 0, output.length);
+		}
+
+		assertThat(lines).hasSizeGreaterThan(1);
+		assertThat(lines).allSatisfy(line ->
+			assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(LogLineOutputStream.MAX_LINE_BYTES));
+		assertThat(String.join("", lines)).isEqualTo(longLine);
+	}
+}
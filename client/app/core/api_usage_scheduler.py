@@ -1,4 +1,5 @@
 import time
+from collections import defaultdict
 from datetime import datetime
 
 import requests
@@ -8,7 +9,7 @@ from app.models.models import APILog, Model
 from sqlalchemy import func
 from sqlalchemy.orm import Session
 
-API_URL = f"{settings.SAAS_SERVER_BASE_URL}/api/deployment/api-usage"
+API_URL = f"{settings.SAAS_SERVER_BASE_URL}/api/deployment/api-usage/bulk"
 
 
 def send_usage_aggregates():
@@ -23,21 +24,31 @@ def send_usage_aggregates():
             func.sum(APILog.latency_ms).label("latency_sum")
         ).group_by(APILog.model_id, APILog.name).all()
 
+        # 모델 정보 한 번에 조회 (model_id -> project_id)
+        model_ids = {row.model_id for row in result}
+        project_by_model = {
+            model.model_id: model.project_id
+            for model in db.query(Model).filter(Model.model_id.in_(model_ids)).all()
+        } if model_ids else {}
+
+        # 프로젝트별로 묶어서 한 번에 전송
+        interval_date = datetime.now().strftime("%Y-%m-%d")
+        usages_by_project = defaultdict(list)
         for row in result:
-            model = db.query(Model).filter(Model.model_id == row.model_id).first()
-            if not model:
+            project_id = project_by_model.get(row.model_id)
+            if project_id is None:
                 continue
 
-            payload = {
-                "projectId": model.project_id,
+            usages_by_project[project_id].append({
                 "modelId": row.model_id,
                 "apiName": row.name,
                 "totalRequestCount": row.request_count,
-                "totalSeconds": row.latency_sum
-                "intervalDate": datetime.now().strftime("%Y-%m-%d")
-            }
+                "totalSeconds": row.latency_sum,
+                "intervalDate": interval_date
+            })
 
-            requests.post(API_URL, json=payload)
+        for project_id, usages in usages_by_project.items():
+            requests.post(API_URL, json={"projectId": project_id, "usages": usages})
 
     except Exception as e:
         print(f"집계 전송 실패: {e}")